@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands;
+
+import co.aikar.commands.annotation.CommandAlias;
+import co.aikar.commands.annotation.Default;
+import co.aikar.commands.annotation.Description;
+import co.aikar.commands.annotation.Subcommand;
+
+/**
+ * A message command used by the benchmarks. Its name is taken from the {@code benchcommand} replacement, so the same
+ * class can be registered any number of times under different names.
+ *
+ * @since 0.5.1
+ */
+@CommandAlias("%benchcommand")
+@Description("Benchmark command.")
+public class BenchMessageCommand extends BaseCommand {
+
+    // Keeps the results of the commands reachable, so they aren't optimized away
+    static volatile Object sink;
+
+    @Default
+    public void onDefault(MessageCommandEvent event) {
+        sink = event;
+    }
+
+    @Subcommand("echo")
+    public void onEcho(MessageCommandEvent event, String text) {
+        sink = text;
+    }
+
+    @Subcommand("add")
+    public void onAdd(MessageCommandEvent event, int first, int second) {
+        sink = first + second;
+    }
+}
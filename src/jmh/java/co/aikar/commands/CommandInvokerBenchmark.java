@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares invoking a command method through a {@link CommandInvoker} with invoking it reflectively, which is how
+ * ACF's {@link RegisteredCommand} invokes it.
+ *
+ * @since 0.5.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CommandInvokerBenchmark {
+
+    private BenchMessageCommand command;
+    private Method method;
+    private CommandInvoker invoker;
+    private Object[] args;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        command = new BenchMessageCommand();
+        method = BenchMessageCommand.class.getMethod("onAdd", MessageCommandEvent.class, int.class, int.class);
+        invoker = CommandInvoker.of(method);
+        args = new Object[] { null, 12, 30 };
+    }
+
+    @Benchmark
+    public Object reflection() throws Exception {
+        method.invoke(command, args);
+        return BenchMessageCommand.sink;
+    }
+
+    @Benchmark
+    public Object invoker() throws Exception {
+        invoker.invoke(command, args);
+        return BenchMessageCommand.sink;
+    }
+}
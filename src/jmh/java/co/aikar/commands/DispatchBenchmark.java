@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands;
+
+import org.javacord.api.DiscordApi;
+import org.javacord.api.event.interaction.SlashCommandCreateEvent;
+import org.javacord.api.event.message.MessageCreateEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the dispatching of events to commands, from tokenizing and routing to the invocation of the command's
+ * method with its resolved arguments. Commands are executed inline, so each operation covers the full path.
+ *
+ * @since 0.5.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DispatchBenchmark {
+
+    @Param({ "10", "1000" })
+    public int commands;
+
+    private MessageCommandManager messageManager;
+    private SlashCommandManager slashManager;
+
+    private MessageCreateEvent chatter;
+    private MessageCreateEvent unknownCommand;
+    private MessageCreateEvent echo;
+    private MessageCreateEvent add;
+    private SlashCommandCreateEvent slashPing;
+    private SlashCommandCreateEvent slashEcho;
+
+    @Setup
+    public void setup() {
+        DiscordApi api = FakeDiscord.api();
+        messageManager = new JavacordOptions()
+                .executionMode(CommandExecutionMode.INLINE)
+                .createMessageManager(api);
+        // Without a budget no deferral timer is scheduled for every interaction
+        slashManager = new JavacordOptions()
+                .executionMode(CommandExecutionMode.INLINE)
+                .responseBudget(0L, TimeUnit.MILLISECONDS)
+                .createSlashManager(api);
+        for (int i = 0; i < commands; i++) {
+            messageManager.getCommandReplacements().addReplacement("benchcommand", "bench" + i);
+            messageManager.registerCommand(new BenchMessageCommand());
+            slashManager.getCommandReplacements().addReplacement("benchcommand", "bench" + i);
+            slashManager.registerSlashCommand(new BenchSlashCommand());
+        }
+        // Slash commands are only dispatched once they have been registered with Discord
+        slashManager.registerPendingSlashCommands().join();
+
+        String last = "bench" + (commands - 1);
+        chatter = FakeDiscord.messageEvent(api, "just some regular chatter in a channel");
+        unknownCommand = FakeDiscord.messageEvent(api, "!unknown echo hello");
+        echo = FakeDiscord.messageEvent(api, "!" + last + " echo hello");
+        add = FakeDiscord.messageEvent(api, "!" + last + " add 12 30");
+        slashPing = FakeDiscord.slashEvent(api, last, last + " ping");
+        slashEcho = FakeDiscord.slashEvent(api, last, last + " echo", FakeDiscord.option("text", "hello"));
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        messageManager.shutdown(1L, TimeUnit.SECONDS);
+        slashManager.shutdown(1L, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public boolean filterChatter() {
+        return messageManager.mayBeCommand(chatter.getMessageContent());
+    }
+
+    @Benchmark
+    public void dispatchUnknownCommand() {
+        messageManager.dispatchEvent(unknownCommand);
+    }
+
+    @Benchmark
+    public Object dispatchEcho() {
+        messageManager.dispatchEvent(echo);
+        return BenchMessageCommand.sink;
+    }
+
+    @Benchmark
+    public Object dispatchAdd() {
+        messageManager.dispatchEvent(add);
+        return BenchMessageCommand.sink;
+    }
+
+    @Benchmark
+    public Object dispatchSlashPing() {
+        slashManager.dispatchEvent(slashPing);
+        return BenchSlashCommand.sink;
+    }
+
+    @Benchmark
+    public Object dispatchSlashEcho() {
+        slashManager.dispatchEvent(slashEcho);
+        return BenchSlashCommand.sink;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands;
+
+import org.javacord.api.DiscordApi;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to create a manager and register a number of commands with it. Every manager is shut
+ * down after the operation that created it, outside of the measurement.
+ *
+ * @since 0.5.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RegistrationBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    public int commands;
+
+    private DiscordApi api;
+    private AbstractJavacordCommandManager manager;
+
+    @Setup
+    public void setup() {
+        api = FakeDiscord.api();
+    }
+
+    @TearDown(Level.Invocation)
+    public void shutdownManager() throws InterruptedException {
+        if (manager != null) {
+            manager.shutdown(1L, TimeUnit.SECONDS);
+            manager = null;
+        }
+    }
+
+    @Benchmark
+    public MessageCommandManager registerCommand() {
+        MessageCommandManager manager = new JavacordOptions()
+                .executionMode(CommandExecutionMode.INLINE)
+                .createMessageManager(api);
+        this.manager = manager;
+        for (int i = 0; i < commands; i++) {
+            manager.getCommandReplacements().addReplacement("benchcommand", "bench" + i);
+            manager.registerCommand(new BenchMessageCommand());
+        }
+        return manager;
+    }
+
+    @Benchmark
+    public SlashCommandManager registerSlashCommand() {
+        SlashCommandManager manager = new JavacordOptions()
+                .executionMode(CommandExecutionMode.INLINE)
+                .createSlashManager(api);
+        this.manager = manager;
+        for (int i = 0; i < commands; i++) {
+            manager.getCommandReplacements().addReplacement("benchcommand", "bench" + i);
+            manager.registerSlashCommand(new BenchSlashCommand());
+        }
+        return manager;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the regex split the message manager used to tokenize commands with {@link CommandArguments}, for messages
+ * of the sizes commands are usually sent with.
+ *
+ * @since 0.5.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TokenizerBenchmark {
+
+    /**
+     * The size of the message: a bare command, a typical command with a few arguments, or a command with a long
+     * free text argument close to Discord's message length limit.
+     */
+    @Param({ "short", "typical", "long" })
+    public String size;
+
+    private String message;
+
+    @Setup
+    public void setup() {
+        switch (size) {
+            case "short":
+                message = "!ping";
+                break;
+            case "typical":
+                message = "!mod ban <@123456789012345678> 7d \"spamming invite links\"";
+                break;
+            default:
+                StringBuilder builder = new StringBuilder("!note add ");
+                while (builder.length() < 1900) {
+                    builder.append("the quick brown fox jumps over the lazy dog ");
+                }
+                message = builder.toString();
+        }
+    }
+
+    @Benchmark
+    public String[] regexSplit() {
+        return ACFPatterns.SPACE.split(message.substring(1), -1);
+    }
+
+    @Benchmark
+    public CommandArguments tokenize() {
+        return CommandArguments.tokenize(message, 1);
+    }
+
+    @Benchmark
+    public String[] tokenizeToArray() {
+        return CommandArguments.tokenize(message, 1).toArray(1);
+    }
+}
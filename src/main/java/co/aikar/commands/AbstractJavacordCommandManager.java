@@ -18,11 +18,15 @@ package co.aikar.commands;
 
 import co.aikar.commands.apachecommonslang.ApacheCommonsExceptionUtil;
 import org.javacord.api.DiscordApi;
+import org.javacord.api.entity.server.Server;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -49,7 +53,8 @@ public abstract class AbstractJavacordCommandManager<
 
     protected final DiscordApi api;
 
-    protected Map<String, RootCommand> commands = new HashMap<>();
+    // Replaced as a whole on registration, so lookups never lock
+    private volatile RootCommandTable commands = RootCommandTable.EMPTY;
     protected JavacordCommandContexts<CE, CEC> contexts;
     protected JavacordCommandCompletions completions;
     protected CommandConfig defaultConfig;
@@ -57,6 +62,12 @@ public abstract class AbstractJavacordCommandManager<
     protected PermissionResolver permissionResolver;
     protected JavacordLocales locales;
     protected Logger logger;
+    protected final JavacordCommandExecutor executor;
+    protected final CommandAdmissionController admissionController;
+    // Settings of the cache providers are wrapped in, a size of 0 disables caching
+    private final long configCacheSize;
+    private final long configCacheExpiry;
+    private final TimeUnit configCacheExpiryUnit;
     private long botOwner = 0L;
 
     protected AbstractJavacordCommandManager(@NotNull DiscordApi api) {
@@ -68,10 +79,30 @@ public abstract class AbstractJavacordCommandManager<
         this.completions = new JavacordCommandCompletions(this);
         this.defaultConfig = options.defaultConfig != null ? new JavacordCommandConfig() : options.defaultConfig;
         this.permissionResolver = options.permissionResolver;
+        this.configCacheSize = options.configCacheSize;
+        this.configCacheExpiry = options.configCacheExpiry;
+        this.configCacheExpiryUnit = options.configCacheExpiryUnit;
         this.logger = Logger.getLogger(getClass().getSimpleName());
+        CommandExecutionMode executionMode = options.executionMode;
+        if (options.virtualThreads && executionMode == CommandExecutionMode.INLINE) {
+            executionMode = CommandExecutionMode.UNORDERED;
+        }
+        this.executor = executionMode != CommandExecutionMode.INLINE
+                ? new JavacordCommandExecutor(this, executionMode, options.executionThreads, options.executionQueueCapacity, options.rejectionPolicy, options.virtualThreads)
+                : null;
+        this.admissionController = options.maxInFlight > 0 || options.maxInFlightPerServer > 0
+                ? new CommandAdmissionController(options.maxInFlight, options.maxInFlightPerServer, options.replyWhenShed)
+                : null;
 
         initializeBotOwner();
         registerCommandConditions();
+
+        // Drop cached configurations of servers the bot is no longer part of
+        api.addServerLeaveListener(event -> {
+            if (configProvider instanceof CachedCommandConfigProvider) {
+                ((CachedCommandConfigProvider) configProvider).invalidate(event.getServer().getId());
+            }
+        });
     }
 
     @Override
@@ -79,15 +110,20 @@ public abstract class AbstractJavacordCommandManager<
         command.onRegister(this);
 
         for (Map.Entry<String, RootCommand> entry : command.registeredCommands.entrySet()) {
-            String commandName = entry.getKey().toLowerCase(Locale.ENGLISH);
-            JavacordRootCommand cmd = (JavacordRootCommand) entry.getValue();
-            if (!cmd.isRegistered) {
-                cmd.isRegistered = true;
-                commands.put(commandName, cmd);
-            }
+            publishRootCommand(entry.getKey(), (JavacordRootCommand) entry.getValue());
         }
     }
 
+    @Override
+    public boolean hasRegisteredCommands() {
+        return !commands.isEmpty();
+    }
+
+    @Override
+    public Collection<RootCommand> getRegisteredRootCommands() {
+        return Collections.unmodifiableCollection(commands.values());
+    }
+
     @Override
     public CommandContexts<?> getCommandContexts() {
         return contexts;
@@ -130,6 +166,41 @@ public abstract class AbstractJavacordCommandManager<
         return api;
     }
 
+    /**
+     * Shuts down the manager's command executor, if commands aren't executed inline, waiting for queued commands to
+     * finish for at most the given amount of time.
+     *
+     * @param timeout the maximum time to wait.
+     * @param unit the unit of {@code timeout}.
+     *
+     * @return {@code true} if all commands finished, {@code false} if the timeout elapsed first.
+     *
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public boolean shutdown(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+        return executor == null || executor.shutdown(timeout, unit);
+    }
+
+    /**
+     * Gets the executor that runs commands, if commands aren't executed inline.
+     *
+     * @return the command executor, or {@code null} if commands are executed inline.
+     */
+    @Nullable
+    public JavacordCommandExecutor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Gets the admission controller that limits the amount of commands executed at the same time.
+     *
+     * @return the admission controller, or {@code null} if admission control is disabled.
+     */
+    @Nullable
+    public CommandAdmissionController getAdmissionController() {
+        return admissionController;
+    }
+
     /**
      * Gets the ID of the bot owner.
      *
@@ -185,12 +256,30 @@ public abstract class AbstractJavacordCommandManager<
     }
 
     /**
-     * Sets the command configuration provider.
+     * Sets the command configuration provider. If config caching is enabled, the provider is wrapped in a
+     * {@link CachedCommandConfigProvider}.
      *
      * @param configProvider the command configuration provider.
+     *
+     * @see JavacordOptions#cacheConfigs(long, long, TimeUnit)
      */
     public void setConfigProvider(@NotNull CommandConfigProvider configProvider) {
-        this.configProvider = configProvider;
+        this.configProvider = wrapConfigProvider(configProvider);
+    }
+
+    /**
+     * Wraps the given provider in a {@link CachedCommandConfigProvider} if config caching is enabled.
+     *
+     * @param provider the provider to wrap.
+     *
+     * @return the wrapped provider, or the given provider if caching is disabled.
+     */
+    @Nullable
+    protected CommandConfigProvider wrapConfigProvider(@Nullable CommandConfigProvider provider) {
+        if (provider == null || configCacheSize <= 0L || provider instanceof CommandConfig || provider instanceof CachedCommandConfigProvider) {
+            return provider;
+        }
+        return new CachedCommandConfigProvider(provider, configCacheSize, configCacheExpiry, configCacheExpiryUnit);
     }
 
     /**
@@ -244,17 +333,199 @@ public abstract class AbstractJavacordCommandManager<
     }
 
     /**
-     * Executes a root command.
+     * Takes a use of each of the given rate limiters of a command, on behalf of the issuer of the given event. Either
+     * a use is taken from all limiters, or, if any of them is exceeded, from none of them.
+     * <p>
+     * This happens before the command's conditions are validated and its arguments are resolved, so requests that
+     * exceed a limit are rejected without running any resolvers. If the input then turns out to be invalid, the uses
+     * are given back with {@link #releaseRateLimits(CommandRateLimiter[], JavacordCommandEvent)}.
+     *
+     * @param limiters the rate limiters of the command.
+     * @param event the event that invoked the command.
+     *
+     * @throws ConditionFailedException if one of the limits is exceeded.
+     */
+    void checkRateLimits(@NotNull CommandRateLimiter[] limiters, @NotNull JavacordCommandEvent event) {
+        if (limiters.length == 0) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        for (int i = 0; i < limiters.length; i++) {
+            CommandRateLimiter limiter = limiters[i];
+            long wait = limiter.tryAcquire(getRateLimitKey(limiter, event), now);
+            if (wait > 0) {
+                // Give back the uses taken from the limiters before this one
+                releaseRateLimits(limiters, i, event);
+                String seconds = String.format(Locale.ENGLISH, "%.1f", wait / 1_000_000_000.0);
+                throw new ConditionFailedException(limiter.getMessageKey(), "{time}", seconds);
+            }
+        }
+    }
+
+    /**
+     * Gives back the uses taken by {@link #checkRateLimits(CommandRateLimiter[], JavacordCommandEvent)}, for when the
+     * command isn't invoked after all because its conditions failed or its arguments couldn't be resolved.
+     *
+     * @param limiters the rate limiters of the command.
+     * @param event the event that invoked the command.
+     */
+    void releaseRateLimits(@NotNull CommandRateLimiter[] limiters, @NotNull JavacordCommandEvent event) {
+        releaseRateLimits(limiters, limiters.length, event);
+    }
+
+    private void releaseRateLimits(@NotNull CommandRateLimiter[] limiters, int count, @NotNull JavacordCommandEvent event) {
+        for (int i = 0; i < count; i++) {
+            limiters[i].release(getRateLimitKey(limiters[i], event));
+        }
+    }
+
+    private long getRateLimitKey(@NotNull CommandRateLimiter limiter, @NotNull JavacordCommandEvent event) {
+        switch (limiter.getScope()) {
+            case CHANNEL:
+                return event.getChannel().getId();
+            case SERVER:
+                return event.isInServer() ? event.getServer().get().getId() : event.getChannel().getId();
+            case GLOBAL:
+                return 0L;
+            default:
+                return event.getUser().getId();
+        }
+    }
+
+    /**
+     * Dispatches the handling of an event, either directly or through the command executor, depending on the
+     * {@link CommandExecutionMode execution mode}.
+     *
+     * @param channelId the ID of the channel the event occurred in.
+     * @param userId the ID of the user that caused the event.
+     * @param handler the handler of the event.
+     */
+    protected void dispatch(long channelId, long userId, @NotNull Runnable handler) {
+        if (executor == null) {
+            handler.run();
+            return;
+        }
+        executor.execute(channelId, userId, handler);
+    }
+
+    /**
+     * Dispatches the handling of an event either directly or on the command executor, without waiting for commands
+     * issued in the same channel or by the same user, whatever the {@link CommandExecutionMode execution mode}.
+     *
+     * @param handler the handler of the event.
+     */
+    protected void dispatchUnordered(@NotNull Runnable handler) {
+        if (executor == null) {
+            handler.run();
+            return;
+        }
+        executor.executeUnordered(handler);
+    }
+
+    /**
+     * Executes a root command, unless it is shed by the admission controller.
      *
      * @param event the event that triggered the command.
      * @param cmd the invoked command's name.
      * @param args the invoked command arguments.
      */
     protected void executeRootCommand(@NotNull Object event, @NotNull String cmd, @NotNull String[] args) {
-        RootCommand rootCommand = this.commands.get(cmd);
-        if (rootCommand == null) {
+        RootCommand rootCommand = findRootCommand(cmd);
+        if (rootCommand != null) {
+            executeRootCommand(event, rootCommand, cmd, args);
+        }
+    }
+
+    /**
+     * Finds the root command with the given name, ignoring case.
+     *
+     * @param cmd the command's name.
+     *
+     * @return the root command, or {@code null} if there is no root command with that name.
+     */
+    @Nullable
+    protected RootCommand findRootCommand(@NotNull CharSequence cmd) {
+        return this.commands.get(cmd);
+    }
+
+    /**
+     * Finds the root command whose name is the given region of a character sequence, ignoring case.
+     *
+     * @param input the character sequence containing the command's name.
+     * @param start the index of the first character of the name.
+     * @param end the index after the last character of the name.
+     *
+     * @return the root command, or {@code null} if there is no root command with that name.
+     */
+    @Nullable
+    protected RootCommand findRootCommand(@NotNull CharSequence input, int start, int end) {
+        return this.commands.get(input, start, end);
+    }
+
+    /**
+     * Makes a root command available for execution, unless it already is.
+     *
+     * @param name the name of the command.
+     * @param command the root command.
+     */
+    synchronized void publishRootCommand(@NotNull String name, @NotNull JavacordRootCommand command) {
+        if (!command.isRegistered) {
+            command.isRegistered = true;
+            this.commands = this.commands.with(name, command);
+        }
+    }
+
+    /**
+     * Executes the given root command, unless it is shed by the admission controller. The issuer of the command is
+     * only created at this point, so events that don't invoke a known command never create one.
+     *
+     * @param event the event that triggered the command.
+     * @param rootCommand the invoked root command.
+     * @param cmd the invoked command's name.
+     * @param args the invoked command arguments.
+     */
+    protected void executeRootCommand(@NotNull Object event, @NotNull RootCommand rootCommand, @NotNull String cmd, @NotNull String[] args) {
+        executeRootCommand(event, rootCommand, cmd, args, null);
+    }
+
+    /**
+     * Executes the given root command, unless it is shed by the admission controller. If the command has already been
+     * routed, the routing result is executed directly instead of routing the arguments again.
+     *
+     * @param event the event that triggered the command.
+     * @param rootCommand the invoked root command.
+     * @param cmd the invoked command's name.
+     * @param args the invoked command arguments.
+     * @param route the routing result for the arguments, or {@code null} if they still need to be routed.
+     */
+    void executeRootCommand(@NotNull Object event, @NotNull RootCommand rootCommand, @NotNull String cmd, @NotNull String[] args, @Nullable CommandRouter.CommandRouteResult route) {
+        CE issuer = this.getCommandIssuer(event);
+        if (admissionController == null) {
+            execute(issuer, rootCommand, cmd, args, route);
+            return;
+        }
+
+        long serverId = issuer.getServer().map(Server::getId).orElse(0L);
+        boolean priority = issuer.getUser().getId() == getBotOwnerId() || ((JavacordRootCommand) rootCommand).isCritical();
+        if (!admissionController.tryAcquire(serverId, priority)) {
+            if (admissionController.isReplyWhenShed()) {
+                issuer.sendMessage(MessageType.ERROR, JavacordMessageKeys.COMMAND_SHED);
+            }
             return;
         }
-        rootCommand.execute(this.getCommandIssuer(event), cmd, args);
+        try {
+            execute(issuer, rootCommand, cmd, args, route);
+        } finally {
+            admissionController.release(serverId);
+        }
+    }
+
+    private void execute(@NotNull CE issuer, @NotNull RootCommand rootCommand, @NotNull String cmd, @NotNull String[] args, @Nullable CommandRouter.CommandRouteResult route) {
+        if (route != null) {
+            route.cmd.scope.execute(issuer, route);
+        } else {
+            rootCommand.execute(issuer, cmd, args);
+        }
     }
 }
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.javacord.api.entity.channel.TextChannel;
+import org.javacord.api.entity.server.Server;
+import org.javacord.api.event.interaction.InteractionCreateEvent;
+import org.javacord.api.event.message.MessageCreateEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A {@link CommandConfigProvider} that memoizes the configurations of another provider per server, and per private
+ * channel for private messages.
+ * <p>
+ * Cached configurations are evicted in least-recently-used order once the cache is full, and expire after a fixed
+ * amount of time. They can also be invalidated explicitly, for example after a server changed its prefixes.
+ *
+ * @since 0.5.1
+ * @see JavacordOptions#cacheConfigs(long, long, TimeUnit)
+ */
+public class CachedCommandConfigProvider implements CommandConfigProvider {
+
+    private final CommandConfigProvider provider;
+    private final Cache<Long, Optional<CommandConfig>> serverConfigs;
+    private final Cache<Long, Optional<CommandConfig>> privateConfigs;
+
+    /**
+     * Creates a new caching provider.
+     *
+     * @param provider the provider to cache the configurations of.
+     * @param maximumSize the maximum amount of servers (and, separately, private channels) to cache configurations for.
+     * @param expireAfter the time after which a cached configuration expires.
+     * @param unit the unit of {@code expireAfter}.
+     */
+    public CachedCommandConfigProvider(@NotNull CommandConfigProvider provider, long maximumSize, long expireAfter, @NotNull TimeUnit unit) {
+        this.provider = provider;
+        this.serverConfigs = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfter, unit)
+                .recordStats()
+                .build();
+        this.privateConfigs = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfter, unit)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    @Nullable
+    public CommandConfig provide(@NotNull MessageCreateEvent event) {
+        Optional<Server> server = event.getServer();
+        if (server.isPresent()) {
+            return get(serverConfigs, server.get().getId(), () -> provider.provide(event));
+        }
+        return get(privateConfigs, event.getChannel().getId(), () -> provider.provide(event));
+    }
+
+    @Override
+    @Nullable
+    public CommandConfig provide(@NotNull InteractionCreateEvent event) {
+        Optional<Server> server = event.getInteraction().getServer();
+        if (server.isPresent()) {
+            return get(serverConfigs, server.get().getId(), () -> provider.provide(event));
+        }
+        Optional<TextChannel> channel = event.getInteraction().getChannel();
+        if (channel.isPresent()) {
+            return get(privateConfigs, channel.get().getId(), () -> provider.provide(event));
+        }
+        return provider.provide(event);
+    }
+
+    @Override
+    @Nullable
+    public List<String> getPossibleCommandPrefixes() {
+        return provider.getPossibleCommandPrefixes();
+    }
+
+    /**
+     * Gets the provider whose configurations are cached.
+     *
+     * @return the cached provider.
+     */
+    @NotNull
+    public CommandConfigProvider getProvider() {
+        return provider;
+    }
+
+    /**
+     * Invalidates the cached configuration of the server with the given ID.
+     *
+     * @param serverId the ID of the server.
+     */
+    public void invalidate(long serverId) {
+        serverConfigs.invalidate(serverId);
+    }
+
+    /**
+     * Invalidates the cached configuration of the private channel with the given ID.
+     *
+     * @param channelId the ID of the private channel.
+     */
+    public void invalidatePrivateChannel(long channelId) {
+        privateConfigs.invalidate(channelId);
+    }
+
+    /**
+     * Invalidates all cached configurations.
+     */
+    public void invalidateAll() {
+        serverConfigs.invalidateAll();
+        privateConfigs.invalidateAll();
+    }
+
+    /**
+     * Gets the amount of times a configuration was served from the cache.
+     *
+     * @return the hit count.
+     */
+    public long getHitCount() {
+        return serverConfigs.stats().hitCount() + privateConfigs.stats().hitCount();
+    }
+
+    /**
+     * Gets the amount of times a configuration had to be requested from the cached provider.
+     *
+     * @return the miss count.
+     */
+    public long getMissCount() {
+        return serverConfigs.stats().missCount() + privateConfigs.stats().missCount();
+    }
+
+    /**
+     * Gets the amount of configurations that are currently cached.
+     *
+     * @return the amount of cached configurations.
+     */
+    public long getSize() {
+        return serverConfigs.size() + privateConfigs.size();
+    }
+
+    @Nullable
+    private CommandConfig get(@NotNull Cache<Long, Optional<CommandConfig>> cache, long id, @NotNull Supplier<CommandConfig> loader) {
+        try {
+            // Providers may return null, which Guava's caches can't hold
+            return cache.get(id, () -> Optional.ofNullable(loader.get())).orElse(null);
+        } catch (ExecutionException | UncheckedExecutionException ex) {
+            ACFUtil.sneaky(ex.getCause());
+            return null;
+        }
+    }
+}
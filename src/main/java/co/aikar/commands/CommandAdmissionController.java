@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package co.aikar.commands;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the amount of commands that are executed at the same time, globally and per server. Commands that would exceed
+ * either limit are shed, unless they have priority.
+ * <p>
+ * Commands invoked by the bot owner and commands marked as {@link co.aikar.commands.javacord.annotation.Critical
+ * critical} have priority. They are always admitted, but do count towards the limits.
+ *
+ * @since 0.5.1
+ * @see JavacordOptions#admissionControl(int, int, boolean)
+ */
+public class CommandAdmissionController {
+
+    private final int maxInFlight;
+    private final int maxInFlightPerServer;
+    private final boolean replyWhenShed;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ConcurrentHashMap<Long, Integer> serverInFlight = new ConcurrentHashMap<>();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    CommandAdmissionController(int maxInFlight, int maxInFlightPerServer, boolean replyWhenShed) {
+        this.maxInFlight = maxInFlight;
+        this.maxInFlightPerServer = maxInFlightPerServer;
+        this.replyWhenShed = replyWhenShed;
+    }
+
+    /**
+     * Tries to admit a command for execution. If admitted, {@link #release(long)} must be called once the command
+     * has been executed.
+     *
+     * @param serverId the ID of the server the command was invoked in, or {@code 0} if it wasn't invoked in a server.
+     * @param priority whether the command has priority.
+     *
+     * @return {@code true} if the command was admitted, {@code false} if it should be shed.
+     */
+    boolean tryAcquire(long serverId, boolean priority) {
+        if (inFlight.incrementAndGet() > maxInFlight && maxInFlight > 0 && !priority) {
+            inFlight.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+        if (serverId != 0L) {
+            int count = serverInFlight.merge(serverId, 1, Integer::sum);
+            if (count > maxInFlightPerServer && maxInFlightPerServer > 0 && !priority) {
+                release(serverId);
+                rejected.increment();
+                return false;
+            }
+        }
+        accepted.increment();
+        return true;
+    }
+
+    /**
+     * Releases a command that was admitted by {@link #tryAcquire(long, boolean)}.
+     *
+     * @param serverId the ID of the server the command was invoked in, or {@code 0} if it wasn't invoked in a server.
+     */
+    void release(long serverId) {
+        if (serverId != 0L) {
+            serverInFlight.computeIfPresent(serverId, (id, count) -> count == 1 ? null : count - 1);
+        }
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Gets whether a reply is sent to the issuer of a command that was shed.
+     *
+     * @return {@code true} if a reply is sent, {@code false} if commands are shed silently.
+     */
+    public boolean isReplyWhenShed() {
+        return replyWhenShed;
+    }
+
+    /**
+     * Gets the maximum amount of commands that are executed at the same time.
+     *
+     * @return the global limit, or {@code 0} if there is none.
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Gets the maximum amount of commands that are executed at the same time within a single server.
+     *
+     * @return the per-server limit, or {@code 0} if there is none.
+     */
+    public int getMaxInFlightPerServer() {
+        return maxInFlightPerServer;
+    }
+
+    /**
+     * Gets the amount of commands that are currently being executed.
+     *
+     * @return the amount of commands in flight.
+     */
+    public int getInFlightCount() {
+        return inFlight.get();
+    }
+
+    /**
+     * Gets the amount of commands that are currently being executed within the given server.
+     *
+     * @param serverId the ID of the server.
+     *
+     * @return the amount of commands in flight within the server.
+     */
+    public int getInFlightCount(long serverId) {
+        Integer count = serverInFlight.get(serverId);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Gets the amount of commands that have been admitted.
+     *
+     * @return the amount of accepted commands.
+     */
+    public long getAcceptedCount() {
+        return accepted.sum();
+    }
+
+    /**
+     * Gets the amount of commands that have been shed.
+     *
+     * @return the amount of rejected commands.
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+}
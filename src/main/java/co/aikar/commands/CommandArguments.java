@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A lightweight view over the space-separated arguments of a command's input.
+ * <p>
+ * The input is tokenized in a single pass, recording only the bounds of each argument. Arguments wrapped in double
+ * quotes are read as a single argument, without the quotes. Strings are only created when an argument is requested.
+ *
+ * @since 0.5.1
+ */
+final class CommandArguments {
+
+    private static final String[] NO_ARGS = new String[0];
+
+    private final String input;
+    private int[] bounds;
+    private int size;
+
+    private CommandArguments(@NotNull String input) {
+        this.input = input;
+        this.bounds = new int[16];
+        this.size = 0;
+    }
+
+    /**
+     * Tokenizes the given input, starting at the given offset.
+     *
+     * @param input the input to tokenize.
+     * @param offset the index to start tokenizing at.
+     *
+     * @return the tokenized arguments.
+     */
+    @NotNull
+    static CommandArguments tokenize(@NotNull String input, int offset) {
+        CommandArguments args = new CommandArguments(input);
+        int length = input.length();
+        int i = offset;
+
+        while (i < length) {
+            char c = input.charAt(i);
+            if (c == ' ') {
+                i++;
+                continue;
+            }
+
+            if (c == '"') {
+                int close = input.indexOf('"', i + 1);
+                // Only treat the quotes as delimiters if the closing quote ends the argument
+                if (close > 0 && (close + 1 == length || input.charAt(close + 1) == ' ')) {
+                    args.add(i + 1, close);
+                    i = close + 1;
+                    continue;
+                }
+            }
+
+            int start = i;
+            while (i < length && input.charAt(i) != ' ') {
+                i++;
+            }
+            args.add(start, i);
+        }
+        return args;
+    }
+
+    private void add(int start, int end) {
+        int index = size * 2;
+        if (index == bounds.length) {
+            int[] grown = new int[bounds.length * 2];
+            System.arraycopy(bounds, 0, grown, 0, bounds.length);
+            bounds = grown;
+        }
+        bounds[index] = start;
+        bounds[index + 1] = end;
+        size++;
+    }
+
+    /**
+     * Gets the amount of arguments.
+     *
+     * @return the amount of arguments.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether there are no arguments.
+     *
+     * @return {@code true} if there are no arguments, {@code false} otherwise.
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the input the arguments were tokenized from.
+     *
+     * @return the input.
+     */
+    @NotNull
+    String getInput() {
+        return input;
+    }
+
+    /**
+     * Gets the index in the input of the first character of the argument at the given index.
+     *
+     * @param index the index of the argument.
+     *
+     * @return the start of the argument in the input.
+     */
+    int start(int index) {
+        checkIndex(index);
+        return bounds[index * 2];
+    }
+
+    /**
+     * Gets the index in the input after the last character of the argument at the given index.
+     *
+     * @param index the index of the argument.
+     *
+     * @return the end of the argument in the input.
+     */
+    int end(int index) {
+        checkIndex(index);
+        return bounds[index * 2 + 1];
+    }
+
+    /**
+     * Gets the length of the argument at the given index.
+     *
+     * @param index the index of the argument.
+     *
+     * @return the length of the argument.
+     */
+    int length(int index) {
+        checkIndex(index);
+        return bounds[index * 2 + 1] - bounds[index * 2];
+    }
+
+    /**
+     * Gets the character at the given position of the argument at the given index.
+     *
+     * @param index the index of the argument.
+     * @param position the position within the argument.
+     *
+     * @return the character.
+     */
+    char charAt(int index, int position) {
+        checkIndex(index);
+        return input.charAt(bounds[index * 2] + position);
+    }
+
+    /**
+     * Gets the argument at the given index.
+     *
+     * @param index the index of the argument.
+     *
+     * @return the argument.
+     */
+    @NotNull
+    String get(int index) {
+        checkIndex(index);
+        return input.substring(bounds[index * 2], bounds[index * 2 + 1]);
+    }
+
+    /**
+     * Creates an array of all arguments starting at the given index.
+     *
+     * @param from the index of the first argument to include.
+     *
+     * @return the array of arguments.
+     */
+    @NotNull
+    String[] toArray(int from) {
+        if (from >= size) {
+            return NO_ARGS;
+        }
+        String[] result = new String[size - from];
+        for (int i = from; i < size; i++) {
+            result[i - from] = get(i);
+        }
+        return result;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
@@ -30,6 +30,26 @@ public interface CommandConfig extends CommandConfigProvider {
     @NotNull
     List<String> getCommandPrefixes();
 
+    /**
+     * Gets the {@link CommandPrefixMatcher} compiled from this configuration's command prefixes.
+     * <p>
+     * The default implementation looks the matcher up in a shared cache. The prefix lists of
+     * {@link JavacordCommandConfig} are looked up by identity, and their matcher is recompiled whenever the list has
+     * been modified since. Any other list is looked up by its contents.
+     *
+     * @return the compiled prefix matcher.
+     */
+    @NotNull
+    default CommandPrefixMatcher getPrefixMatcher() {
+        return CommandPrefixMatcher.of(getCommandPrefixes());
+    }
+
+    @Override
+    @NotNull
+    default List<String> getPossibleCommandPrefixes() {
+        return getCommandPrefixes();
+    }
+
     @Override
     @NotNull
     default CommandConfig provide(@NotNull MessageCreateEvent event) {
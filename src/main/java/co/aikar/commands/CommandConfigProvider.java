@@ -21,6 +21,8 @@ import org.javacord.api.event.message.MessageCreateEvent;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
+
 /**
  * @since 0.1.0
  */
@@ -31,4 +33,21 @@ public interface CommandConfigProvider {
 
     @Nullable
     CommandConfig provide(@NotNull InteractionCreateEvent event);
+
+    /**
+     * Gets every command prefix that the configurations returned by this provider may use.
+     * <p>
+     * This is used to discard messages that can't possibly be commands before the provider is called. Providers that
+     * can't tell which prefixes they may use should return {@code null}, which disables this filtering.
+     * <p>
+     * The prefixes are compiled once per returned list and reused for as long as the same list is returned, so this
+     * method should return the same instance each time rather than building a new list. To change the prefixes,
+     * return a new list, or the prefix list of a {@link JavacordCommandConfig}, whose modifications are tracked.
+     *
+     * @return the possible command prefixes, or {@code null} if unknown.
+     */
+    @Nullable
+    default List<String> getPossibleCommandPrefixes() {
+        return null;
+    }
 }
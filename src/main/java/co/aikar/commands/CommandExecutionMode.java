@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands;
+
+/**
+ * Determines on which thread commands are parsed and executed.
+ *
+ * @since 0.5.1
+ * @see JavacordOptions#executionMode(CommandExecutionMode)
+ */
+public enum CommandExecutionMode {
+
+    /**
+     * Commands are executed directly on Javacord's listener thread.
+     */
+    INLINE,
+
+    /**
+     * Commands are executed on the manager's command pool. Commands issued in the same channel are executed in the
+     * order they were received, while commands in different channels are executed in parallel.
+     */
+    PER_CHANNEL,
+
+    /**
+     * Commands are executed on the manager's command pool. Commands issued by the same user are executed in the
+     * order they were received, while commands of different users are executed in parallel.
+     */
+    PER_USER,
+
+    /**
+     * Commands are executed on the manager's command pool without any ordering guarantees. Combined with
+     * {@link JavacordOptions#virtualThreads(boolean) virtual threads}, every command runs on its own virtual thread.
+     */
+    UNORDERED
+}
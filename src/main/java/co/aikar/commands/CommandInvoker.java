@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Invokes the method of a registered command.
+ * <p>
+ * The invoker is built once per command. Where possible, it calls the method directly through a class generated by
+ * {@link CommandInvokers}; otherwise it uses a {@link MethodHandle} that takes the command's instance and an array of
+ * arguments, so invoking it doesn't repeat the access checks of {@link Method#invoke(Object, Object...)}. Exceptions
+ * thrown by the method are wrapped in an {@link InvocationTargetException}, like they are by reflection, so ACF's
+ * exception handling applies unchanged.
+ *
+ * @since 0.5.1
+ */
+@FunctionalInterface
+interface CommandInvoker {
+
+    /**
+     * The type all method handles are adapted to: {@code (Object target, Object[] args) -> Object}.
+     */
+    MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    /**
+     * Invokes the method.
+     *
+     * @param target the instance of the command.
+     * @param args the resolved arguments.
+     *
+     * @return the return value of the method, or {@code null} if it doesn't return anything.
+     *
+     * @throws Exception if the method couldn't be invoked, or an {@link InvocationTargetException} if it threw.
+     */
+    Object invoke(@NotNull Object target, @NotNull Object[] args) throws Exception;
+
+    /**
+     * Creates an invoker for the given method, falling back to a method handle if no invoker can be generated for it, and to reflection if no
+     * method handle can be created for it either.
+     *
+     * @param method the method of the command.
+     *
+     * @return the invoker.
+     */
+    @NotNull
+    static CommandInvoker of(@NotNull Method method) {
+        CommandInvoker generated = CommandInvokers.generate(method);
+        if (generated != null) {
+            return (target, args) -> {
+                try {
+                    return generated.invoke(target, args);
+                } catch (Throwable thrown) {
+                    throw new InvocationTargetException(thrown);
+                }
+            };
+        }
+
+        MethodHandle handle;
+        try {
+            method.setAccessible(true);
+            handle = MethodHandles.lookup().unreflect(method)
+                    .asSpreader(Object[].class, method.getParameterCount())
+                    .asType(INVOKER_TYPE);
+        } catch (IllegalAccessException | RuntimeException ex) {
+            return method::invoke;
+        }
+
+        return (target, args) -> {
+            Object result;
+            try {
+                result = (Object) handle.invokeExact(target, args);
+            } catch (Throwable thrown) {
+                throw new InvocationTargetException(thrown);
+            }
+            return result;
+        };
+    }
+}
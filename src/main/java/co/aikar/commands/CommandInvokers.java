@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Generates {@link CommandInvoker invokers} that call command methods directly, through classes generated by
+ * {@link LambdaMetafactory}. Unlike reflection and non-constant method handles, such calls can be inlined by the JIT
+ * all the way into the command's body.
+ * <p>
+ * There is one functional interface per arity, up to {@value #MAX_ARITY} parameters, for methods with and without a
+ * return value. Methods with more parameters, or whose types aren't accessible from this class, aren't generated.
+ *
+ * @since 0.5.1
+ */
+final class CommandInvokers {
+
+    static final int MAX_ARITY = 6;
+
+    private static final Class<?>[] CALLS = {Call0.class, Call1.class, Call2.class, Call3.class, Call4.class, Call5.class, Call6.class};
+    private static final Class<?>[] RUNS = {Run0.class, Run1.class, Run2.class, Run3.class, Run4.class, Run5.class, Run6.class};
+
+    private CommandInvokers() {}
+
+    /**
+     * Generates an invoker for the given method.
+     *
+     * @param method the method of the command.
+     *
+     * @return the generated invoker, or {@code null} if none can be generated for the method.
+     */
+    @Nullable
+    static CommandInvoker generate(@NotNull Method method) {
+        int arity = method.getParameterCount();
+        if (arity > MAX_ARITY || Modifier.isStatic(method.getModifiers()) || !isAccessible(method)) {
+            return null;
+        }
+
+        boolean isVoid = method.getReturnType() == void.class;
+        Class<?> functionType = (isVoid ? RUNS : CALLS)[arity];
+        Method functionMethod = functionType.getMethods()[0];
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle handle = lookup.unreflect(method);
+            MethodType instantiatedType = handle.type().wrap();
+            if (isVoid) {
+                instantiatedType = instantiatedType.changeReturnType(void.class);
+            }
+            Object function = LambdaMetafactory.metafactory(lookup,
+                    functionMethod.getName(),
+                    MethodType.methodType(functionType),
+                    MethodType.methodType(functionMethod.getReturnType(), functionMethod.getParameterTypes()),
+                    handle,
+                    instantiatedType).getTarget().invoke();
+            return adapt(function, arity, isVoid);
+        } catch (Throwable thrown) {
+            return null;
+        }
+    }
+
+    @NotNull
+    private static CommandInvoker adapt(@NotNull Object function, int arity, boolean isVoid) {
+        switch (arity) {
+            case 0: {
+                if (isVoid) {
+                    Run0 run = (Run0) function;
+                    return (target, args) -> {
+                        run.run(target);
+                        return null;
+                    };
+                }
+                Call0 call = (Call0) function;
+                return (target, args) -> call.call(target);
+            }
+            case 1: {
+                if (isVoid) {
+                    Run1 run = (Run1) function;
+                    return (target, args) -> {
+                        run.run(target, args[0]);
+                        return null;
+                    };
+                }
+                Call1 call = (Call1) function;
+                return (target, args) -> call.call(target, args[0]);
+            }
+            case 2: {
+                if (isVoid) {
+                    Run2 run = (Run2) function;
+                    return (target, args) -> {
+                        run.run(target, args[0], args[1]);
+                        return null;
+                    };
+                }
+                Call2 call = (Call2) function;
+                return (target, args) -> call.call(target, args[0], args[1]);
+            }
+            case 3: {
+                if (isVoid) {
+                    Run3 run = (Run3) function;
+                    return (target, args) -> {
+                        run.run(target, args[0], args[1], args[2]);
+                        return null;
+                    };
+                }
+                Call3 call = (Call3) function;
+                return (target, args) -> call.call(target, args[0], args[1], args[2]);
+            }
+            case 4: {
+                if (isVoid) {
+                    Run4 run = (Run4) function;
+                    return (target, args) -> {
+                        run.run(target, args[0], args[1], args[2], args[3]);
+                        return null;
+                    };
+                }
+                Call4 call = (Call4) function;
+                return (target, args) -> call.call(target, args[0], args[1], args[2], args[3]);
+            }
+            case 5: {
+                if (isVoid) {
+                    Run5 run = (Run5) function;
+                    return (target, args) -> {
+                        run.run(target, args[0], args[1], args[2], args[3], args[4]);
+                        return null;
+                    };
+                }
+                Call5 call = (Call5) function;
+                return (target, args) -> call.call(target, args[0], args[1], args[2], args[3], args[4]);
+            }
+            case 6: {
+                if (isVoid) {
+                    Run6 run = (Run6) function;
+                    return (target, args) -> {
+                        run.run(target, args[0], args[1], args[2], args[3], args[4], args[5]);
+                        return null;
+                    };
+                }
+                Call6 call = (Call6) function;
+                return (target, args) -> call.call(target, args[0], args[1], args[2], args[3], args[4], args[5]);
+            }
+            default:
+                throw new IllegalArgumentException("Unsupported arity: " + arity);
+        }
+    }
+
+    /**
+     * Checks whether the generated class can link against the method and all of its types: they have to be public,
+     * and visible from the class loader of this class.
+     *
+     * @param method the method.
+     *
+     * @return {@code true} if the method is accessible, {@code false} otherwise.
+     */
+    private static boolean isAccessible(@NotNull Method method) {
+        if (!Modifier.isPublic(method.getModifiers()) || !isAccessible(method.getDeclaringClass()) || !isAccessible(method.getReturnType())) {
+            return false;
+        }
+        for (Class<?> type : method.getParameterTypes()) {
+            if (!isAccessible(type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAccessible(@NotNull Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive()) {
+            return true;
+        }
+        if (!Modifier.isPublic(type.getModifiers())) {
+            return false;
+        }
+        try {
+            return Class.forName(type.getName(), false, CommandInvokers.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError ex) {
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    interface Call0 {
+        Object call(Object target);
+    }
+
+    @FunctionalInterface
+    interface Call1 {
+        Object call(Object target, Object arg0);
+    }
+
+    @FunctionalInterface
+    interface Call2 {
+        Object call(Object target, Object arg0, Object arg1);
+    }
+
+    @FunctionalInterface
+    interface Call3 {
+        Object call(Object target, Object arg0, Object arg1, Object arg2);
+    }
+
+    @FunctionalInterface
+    interface Call4 {
+        Object call(Object target, Object arg0, Object arg1, Object arg2, Object arg3);
+    }
+
+    @FunctionalInterface
+    interface Call5 {
+        Object call(Object target, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4);
+    }
+
+    @FunctionalInterface
+    interface Call6 {
+        Object call(Object target, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5);
+    }
+
+    @FunctionalInterface
+    interface Run0 {
+        void run(Object target);
+    }
+
+    @FunctionalInterface
+    interface Run1 {
+        void run(Object target, Object arg0);
+    }
+
+    @FunctionalInterface
+    interface Run2 {
+        void run(Object target, Object arg0, Object arg1);
+    }
+
+    @FunctionalInterface
+    interface Run3 {
+        void run(Object target, Object arg0, Object arg1, Object arg2);
+    }
+
+    @FunctionalInterface
+    interface Run4 {
+        void run(Object target, Object arg0, Object arg1, Object arg2, Object arg3);
+    }
+
+    @FunctionalInterface
+    interface Run5 {
+        void run(Object target, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4);
+    }
+
+    @FunctionalInterface
+    interface Run6 {
+        void run(Object target, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5);
+    }
+}
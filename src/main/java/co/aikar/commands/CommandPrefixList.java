@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * A {@link CopyOnWriteArrayList} of command prefixes that keeps track of modifications, so that a compiled
+ * {@link CommandPrefixMatcher} only has to be rebuilt when the prefixes actually change.
+ *
+ * @since 0.5.1
+ */
+class CommandPrefixList extends CopyOnWriteArrayList<String> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final AtomicInteger version = new AtomicInteger(1);
+
+    CommandPrefixList(@NotNull String... prefixes) {
+        super(prefixes);
+    }
+
+    /**
+     * Gets the modification count of this list.
+     *
+     * @return the modification count.
+     */
+    int getVersion() {
+        return version.get();
+    }
+
+    private <T> T modified(T result) {
+        version.incrementAndGet();
+        return result;
+    }
+
+    @Override
+    public String set(int index, String element) {
+        return modified(super.set(index, element));
+    }
+
+    @Override
+    public boolean add(String element) {
+        return modified(super.add(element));
+    }
+
+    @Override
+    public void add(int index, String element) {
+        super.add(index, element);
+        version.incrementAndGet();
+    }
+
+    @Override
+    public String remove(int index) {
+        return modified(super.remove(index));
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return modified(super.remove(o));
+    }
+
+    @Override
+    public boolean addIfAbsent(String element) {
+        return modified(super.addIfAbsent(element));
+    }
+
+    @Override
+    public boolean removeAll(@NotNull Collection<?> c) {
+        return modified(super.removeAll(c));
+    }
+
+    @Override
+    public boolean retainAll(@NotNull Collection<?> c) {
+        return modified(super.retainAll(c));
+    }
+
+    @Override
+    public int addAllAbsent(@NotNull Collection<? extends String> c) {
+        return modified(super.addAllAbsent(c));
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        version.incrementAndGet();
+    }
+
+    @Override
+    public boolean addAll(@NotNull Collection<? extends String> c) {
+        return modified(super.addAll(c));
+    }
+
+    @Override
+    public boolean addAll(int index, @NotNull Collection<? extends String> c) {
+        return modified(super.addAll(index, c));
+    }
+
+    @Override
+    public boolean removeIf(@NotNull Predicate<? super String> filter) {
+        return modified(super.removeIf(filter));
+    }
+
+    @Override
+    public void replaceAll(@NotNull UnaryOperator<String> operator) {
+        super.replaceAll(operator);
+        version.incrementAndGet();
+    }
+
+    @Override
+    public void sort(Comparator<? super String> c) {
+        super.sort(c);
+        version.incrementAndGet();
+    }
+
+    /**
+     * Returns a read-only view of a portion of this list. Sublist writes bypass the modification tracking of this
+     * list, so they are not supported.
+     */
+    @Override
+    @NotNull
+    public List<String> subList(int fromIndex, int toIndex) {
+        return Collections.unmodifiableList(super.subList(fromIndex, toIndex));
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable prefix trie compiled from a {@link CommandConfig}'s command prefixes.
+ * <p>
+ * Matching walks the message content character by character, so content that doesn't start with any of the prefixes
+ * is rejected after a single comparison, regardless of how many prefixes are configured.
+ *
+ * @since 0.5.1
+ * @see CommandConfig#getCommandPrefixes()
+ */
+public final class CommandPrefixMatcher {
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    // Prefix lists that track their own changes, compared by identity and checked against their version
+    private static final Cache<List<String>, CommandPrefixMatcher> TRACKED_CACHE = CacheBuilder.newBuilder().weakKeys().build();
+    // All other lists, compared by content, so providers returning a new list for every call share a matcher
+    private static final Cache<List<String>, CommandPrefixMatcher> CONTENT_CACHE = CacheBuilder.newBuilder().maximumSize(1024L).build();
+
+    private final Node root;
+    private final String[] prefixes;
+    private final int version;
+    // Bitmap of the ASCII characters any of the prefixes starts with
+    private long asciiLow;
+    private long asciiHigh;
+
+    private CommandPrefixMatcher(@NotNull String[] prefixes, int version) {
+        this.root = new Node();
+        this.prefixes = prefixes;
+        this.version = version;
+
+        for (String prefix : prefixes) {
+            if (prefix != null) {
+                root.insert(prefix);
+                if (!prefix.isEmpty()) {
+                    char first = prefix.charAt(0);
+                    if (first < 64) {
+                        asciiLow |= 1L << first;
+                    } else if (first < 128) {
+                        asciiHigh |= 1L << (first - 64);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Compiles a new matcher from the given list of prefixes.
+     *
+     * @param prefixes the prefixes to compile.
+     *
+     * @return the compiled matcher.
+     */
+    @NotNull
+    public static CommandPrefixMatcher compile(@NotNull List<String> prefixes) {
+        int version = prefixes instanceof CommandPrefixList ? ((CommandPrefixList) prefixes).getVersion() : 0;
+        return new CommandPrefixMatcher(prefixes.toArray(new String[0]), version);
+    }
+
+    /**
+     * Gets the matcher for the given list of prefixes from the shared cache, compiling it if it isn't cached yet or
+     * if the list has changed since it was compiled.
+     * <p>
+     * The prefix lists of {@link JavacordCommandConfig} are looked up by identity, and are recompiled once they have
+     * been modified. Other lists are looked up by their contents, so equal lists share the same matcher, even if a new
+     * list is created for every call.
+     *
+     * @param prefixes the prefixes to get the matcher for.
+     *
+     * @return the matcher for the given prefixes.
+     */
+    @NotNull
+    public static CommandPrefixMatcher of(@NotNull List<String> prefixes) {
+        if (prefixes instanceof CommandPrefixList) {
+            CommandPrefixMatcher matcher = TRACKED_CACHE.getIfPresent(prefixes);
+            if (matcher == null || !matcher.isCompiledFrom(prefixes)) {
+                matcher = compile(prefixes);
+                TRACKED_CACHE.put(prefixes, matcher);
+            }
+            return matcher;
+        }
+
+        CommandPrefixMatcher matcher = CONTENT_CACHE.getIfPresent(prefixes);
+        if (matcher == null) {
+            matcher = compile(prefixes);
+            // Keyed by a copy, so later changes to the given list can't corrupt the cache
+            CONTENT_CACHE.put(Collections.unmodifiableList(Arrays.asList(matcher.prefixes)), matcher);
+        }
+        return matcher;
+    }
+
+    /**
+     * Finds the longest prefix the given content starts with.
+     *
+     * @param content the content to match.
+     *
+     * @return the length of the longest matching prefix, or {@code -1} if the content doesn't start with any prefix.
+     */
+    public int match(@NotNull CharSequence content) {
+        Node node = root;
+        int matched = node.terminal ? 0 : -1;
+        int length = content.length();
+
+        for (int i = 0; i < length; i++) {
+            node = node.child(content.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.terminal) {
+                matched = i + 1;
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Checks whether the given content could start with any of the prefixes, by looking at its first character only.
+     * This is meant as a cheap filter, to discard content before doing any other work.
+     *
+     * @param content the content to check.
+     *
+     * @return {@code true} if the content could start with a prefix, {@code false} if it certainly doesn't.
+     */
+    public boolean mayMatch(@NotNull CharSequence content) {
+        if (root.terminal) {
+            return true;
+        }
+        if (content.length() == 0) {
+            return false;
+        }
+        char first = content.charAt(0);
+        if (first < 64) {
+            return (asciiLow & (1L << first)) != 0;
+        }
+        if (first < 128) {
+            return (asciiHigh & (1L << (first - 64))) != 0;
+        }
+        return root.child(first) != null;
+    }
+
+    /**
+     * Checks whether this matcher was compiled from the current contents of the given list of prefixes.
+     *
+     * @param prefixes the list of prefixes to check.
+     *
+     * @return {@code true} if this matcher is up-to-date with the given list, {@code false} otherwise.
+     */
+    boolean isCompiledFrom(@NotNull List<String> prefixes) {
+        if (prefixes instanceof CommandPrefixList) {
+            return ((CommandPrefixList) prefixes).getVersion() == version;
+        }
+        return Arrays.asList(this.prefixes).equals(prefixes);
+    }
+
+    /**
+     * A single node in the trie. Children are kept in arrays sorted by key so lookups are a binary search.
+     */
+    private static final class Node {
+
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private boolean terminal;
+
+        private Node child(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private void insert(@NotNull String prefix) {
+            Node node = this;
+            for (int i = 0; i < prefix.length(); i++) {
+                char key = prefix.charAt(i);
+                int index = Arrays.binarySearch(node.keys, key);
+                if (index < 0) {
+                    index = -(index + 1);
+                    node.keys = insertAt(node.keys, index, key);
+                    node.children = insertAt(node.children, index, new Node());
+                }
+                node = node.children[index];
+            }
+            node.terminal = true;
+        }
+
+        private static char[] insertAt(char[] array, int index, char value) {
+            char[] result = new char[array.length + 1];
+            System.arraycopy(array, 0, result, 0, index);
+            result[index] = value;
+            System.arraycopy(array, index, result, index + 1, array.length - index);
+            return result;
+        }
+
+        private static Node[] insertAt(Node[] array, int index, Node value) {
+            Node[] result = new Node[array.length + 1];
+            System.arraycopy(array, 0, result, 0, index);
+            result[index] = value;
+            System.arraycopy(array, index, result, index + 1, array.length - index);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package co.aikar.commands;
+
+import co.aikar.commands.javacord.annotation.Cooldown;
+import co.aikar.commands.javacord.annotation.RateLimit;
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enforces a {@link Cooldown} or {@link RateLimit} of a single command.
+ * <p>
+ * Each key (a user, channel or server ID, depending on the {@link RateLimit.Scope scope}) has its own token bucket,
+ * stored as the single {@code long} at which the bucket is full again (the generic cell rate algorithm). Buckets are
+ * kept in primitive open-addressing tables, striped by key so concurrent commands rarely contend. Full buckets are
+ * indistinguishable from absent ones, so they are evicted whenever a table is rebuilt, which happens when it fills up
+ * or periodically when new buckets are added.
+ *
+ * @since 0.5.1
+ */
+final class CommandRateLimiter {
+
+    static final CommandRateLimiter[] NONE = new CommandRateLimiter[0];
+
+    private static final int STRIPES = 16; // Must be a power of two
+    private static final long MIN_SWEEP_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+    private final RateLimit.Scope scope;
+    private final JavacordMessageKeys messageKey;
+    private final long interval;
+    private final long tolerance;
+    private final long sweepInterval;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    CommandRateLimiter(@NotNull RateLimit.Scope scope, @NotNull JavacordMessageKeys messageKey, int uses, long period, @NotNull TimeUnit unit) {
+        Preconditions.checkArgument(uses > 0, "uses must be positive");
+        Preconditions.checkArgument(period > 0, "period must be positive");
+        this.scope = scope;
+        this.messageKey = messageKey;
+        this.interval = Math.max(1L, unit.toNanos(period) / uses);
+        this.tolerance = interval * (uses - 1);
+        // After this long, every bucket that was in use at the start is full again
+        this.sweepInterval = Math.max(MIN_SWEEP_INTERVAL, interval + tolerance);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Creates the rate limiters for the {@link Cooldown} and {@link RateLimit} annotations of the given method.
+     *
+     * @param method the command method.
+     *
+     * @return the rate limiters, or an empty array if the method has neither annotation.
+     */
+    @NotNull
+    static CommandRateLimiter[] forMethod(@NotNull Method method) {
+        Cooldown cooldown = method.getAnnotation(Cooldown.class);
+        RateLimit rateLimit = method.getAnnotation(RateLimit.class);
+        if (cooldown == null && rateLimit == null) {
+            return NONE;
+        }
+
+        CommandRateLimiter cooldownLimiter = cooldown != null
+                ? new CommandRateLimiter(cooldown.scope(), JavacordMessageKeys.COMMAND_ON_COOLDOWN, 1, cooldown.value(), cooldown.unit())
+                : null;
+        CommandRateLimiter rateLimiter = rateLimit != null
+                ? new CommandRateLimiter(rateLimit.scope(), JavacordMessageKeys.COMMAND_RATE_LIMITED, rateLimit.uses(), rateLimit.period(), rateLimit.unit())
+                : null;
+        if (cooldownLimiter == null) {
+            return new CommandRateLimiter[] { rateLimiter };
+        }
+        if (rateLimiter == null) {
+            return new CommandRateLimiter[] { cooldownLimiter };
+        }
+        return new CommandRateLimiter[] { cooldownLimiter, rateLimiter };
+    }
+
+    /**
+     * Gets the scope in which this limit applies.
+     *
+     * @return the scope.
+     */
+    @NotNull
+    RateLimit.Scope getScope() {
+        return scope;
+    }
+
+    /**
+     * Gets the key of the message to send when this limit is exceeded.
+     *
+     * @return the message key.
+     */
+    @NotNull
+    JavacordMessageKeys getMessageKey() {
+        return messageKey;
+    }
+
+    /**
+     * Tries to take a token from the bucket of the given key.
+     *
+     * @param key the user, channel or server ID. Must not be negative.
+     * @param now the current time, as given by {@link System#nanoTime()}.
+     *
+     * @return {@code 0} if a token was taken, otherwise the amount of nanoseconds until a token becomes available.
+     */
+    long tryAcquire(long key, long now) {
+        int hash = hash(key);
+        Stripe stripe = stripes[hash >>> 28];
+        synchronized (stripe) {
+            return stripe.acquire(key, hash, now);
+        }
+    }
+
+    /**
+     * Gives back a token that was taken from the bucket of the given key, for when the use it was taken for didn't
+     * happen after all.
+     *
+     * @param key the user, channel or server ID. Must not be negative.
+     */
+    void release(long key) {
+        int hash = hash(key);
+        Stripe stripe = stripes[hash >>> 28];
+        synchronized (stripe) {
+            stripe.release(key, hash);
+        }
+    }
+
+    /**
+     * Gets the amount of keys for which a bucket is currently stored. Includes full buckets that have not been evicted
+     * yet.
+     *
+     * @return the amount of stored buckets.
+     */
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size;
+            }
+        }
+        return size;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * A single open-addressing table of buckets, guarded by its own monitor.
+     */
+    private final class Stripe {
+
+        private static final long EMPTY = -1L; // IDs are never negative
+        private static final int MIN_CAPACITY = 8;
+
+        private long[] keys = newKeys(MIN_CAPACITY);
+        private long[] full = new long[MIN_CAPACITY]; // The time at which each bucket is full again
+        private int size;
+        private long sweepAt = System.nanoTime() + sweepInterval;
+
+        private long acquire(long key, int hash, long now) {
+            int mask = keys.length - 1;
+            int slot = hash & mask;
+            while (keys[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+
+            long fullAt = keys[slot] == key ? full[slot] : now;
+            if (fullAt - now < 0) {
+                fullAt = now;
+            }
+            long wait = fullAt - now - tolerance;
+            if (wait > 0) {
+                return wait;
+            }
+
+            if (keys[slot] == key) {
+                full[slot] = fullAt + interval;
+            } else if ((size + 1) * 4 > keys.length * 3 || now - sweepAt >= 0) {
+                rebuild(now);
+                insert(key, hash, fullAt + interval);
+            } else {
+                keys[slot] = key;
+                full[slot] = fullAt + interval;
+                size++;
+            }
+            return 0L;
+        }
+
+        private void release(long key, int hash) {
+            int mask = keys.length - 1;
+            int slot = hash & mask;
+            while (keys[slot] != EMPTY) {
+                if (keys[slot] == key) {
+                    // A bucket that ends up full again is evicted by the next rebuild
+                    full[slot] -= interval;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        private void insert(long key, int hash, long fullAt) {
+            int mask = keys.length - 1;
+            int slot = hash & mask;
+            while (keys[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            full[slot] = fullAt;
+            size++;
+        }
+
+        /**
+         * Rebuilds the table, dropping buckets that are full and resizing it to the remaining amount of buckets.
+         * Happens when the table fills up, or when adding a bucket after the sweep interval has passed.
+         */
+        private void rebuild(long now) {
+            sweepAt = now + sweepInterval;
+            long[] oldKeys = keys;
+            long[] oldFull = full;
+
+            int live = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY && oldFull[i] - now > 0) {
+                    live++;
+                }
+            }
+
+            // Keep the table at most half full after the rebuild
+            int capacity = MIN_CAPACITY;
+            while (capacity < (live + 1) * 2) {
+                capacity <<= 1;
+            }
+            keys = newKeys(capacity);
+            full = new long[capacity];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY && oldFull[i] - now > 0) {
+                    insert(oldKeys[i], hash(oldKeys[i]), oldFull[i]);
+                }
+            }
+        }
+
+        private long[] newKeys(int capacity) {
+            long[] keys = new long[capacity];
+            Arrays.fill(keys, EMPTY);
+            return keys;
+        }
+    }
+}
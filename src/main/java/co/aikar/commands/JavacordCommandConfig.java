@@ -19,16 +19,28 @@ package co.aikar.commands;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * @since 0.1.0
  */
 public class JavacordCommandConfig implements CommandConfig {
-    protected @NotNull List<String> commandPrefixes = new CopyOnWriteArrayList<>(new String[]{"!"});
+    protected @NotNull List<String> commandPrefixes = new CommandPrefixList("!");
+    private volatile CommandPrefixMatcher prefixMatcher;
 
     public JavacordCommandConfig() { }
 
     @NotNull
     public List<String> getCommandPrefixes() { return commandPrefixes; }
+
+    @Override
+    @NotNull
+    public CommandPrefixMatcher getPrefixMatcher() {
+        CommandPrefixMatcher matcher = this.prefixMatcher;
+        List<String> prefixes = this.commandPrefixes;
+        if (matcher == null || !matcher.isCompiledFrom(prefixes)) {
+            matcher = CommandPrefixMatcher.compile(prefixes);
+            this.prefixMatcher = matcher;
+        }
+        return matcher;
+    }
 }
@@ -36,6 +36,9 @@ import java.util.concurrent.CompletableFuture;
 
 /**
  * Represents a command event.
+ * <p>
+ * The user, server and channel of the event are only resolved from the underlying Javacord event when first accessed,
+ * see {@link LazyJavacordCommandEvent}.
  *
  * @since 0.5.0
  * @see MessageCommandEvent
@@ -45,17 +48,86 @@ import java.util.concurrent.CompletableFuture;
 public abstract class JavacordCommandEvent implements CommandIssuer {
 
     protected final AbstractJavacordCommandManager manager;
+    /**
+     * @deprecated only set by the deprecated constructor, use {@link #getUser()} instead.
+     */
+    @Deprecated
     protected final User user;
+    /**
+     * @deprecated only set by the deprecated constructor, use {@link #getServer()} instead.
+     */
+    @Deprecated
     protected final Server server;
+    /**
+     * @deprecated only set by the deprecated constructor, use {@link #getChannel()} instead.
+     */
+    @Deprecated
     protected final TextChannel channel;
+    /**
+     * @deprecated only set by the deprecated constructor, use {@link #isInServer()} instead.
+     */
+    @Deprecated
     protected final boolean inServer;
+    // Resolved on first access; resolving is idempotent, so racing threads at most resolve twice
+    private User resolvedUser;
+    private Optional<Server> resolvedServer;
+    private TextChannel resolvedChannel;
+
+    // Only for LazyJavacordCommandEvent, which requires its subclasses to implement the resolve methods
+    JavacordCommandEvent(@NotNull AbstractJavacordCommandManager manager) {
+        this.manager = manager;
+        this.user = null;
+        this.server = null;
+        this.channel = null;
+        this.inServer = false;
+    }
 
+    /**
+     * Creates an event whose user, server and channel are resolved up front.
+     *
+     * @deprecated extend {@link LazyJavacordCommandEvent} instead, so the user, server and channel are only resolved
+     * when accessed.
+     */
+    @Deprecated
     protected JavacordCommandEvent(@NotNull AbstractJavacordCommandManager manager, @NotNull User user, @Nullable Server server, @NotNull TextChannel channel) {
         this.manager = manager;
         this.user = user;
         this.server = server;
         this.channel = channel;
         this.inServer = server != null;
+        this.resolvedUser = user;
+        this.resolvedServer = Optional.ofNullable(server);
+        this.resolvedChannel = channel;
+    }
+
+    /**
+     * Resolves the {@link User} that invoked the command from the underlying event.
+     *
+     * @return the user that invoked the command.
+     */
+    @NotNull
+    protected User resolveUser() {
+        return user;
+    }
+
+    /**
+     * Resolves the {@link Server} in which the command was invoked from the underlying event.
+     *
+     * @return the server in which the command was invoked, or {@link Optional#empty()} if the command was not invoked in a server.
+     */
+    @NotNull
+    protected Optional<Server> resolveServer() {
+        return Optional.ofNullable(server);
+    }
+
+    /**
+     * Resolves the {@link TextChannel} in which the command was invoked from the underlying event.
+     *
+     * @return the channel in which the command was invoked.
+     */
+    @NotNull
+    protected TextChannel resolveChannel() {
+        return channel;
     }
 
     @Override
@@ -74,7 +146,7 @@ public abstract class JavacordCommandEvent implements CommandIssuer {
     public @NotNull UUID getUniqueId() {
         // Discord id only have 64 bit width (long) while UUIDs have twice the size.
         // In order to keep it unique we use 0L for the first 64 bit.
-        long authorId = user.getId();
+        long authorId = getUser().getId();
         return new UUID(0L, authorId);
     }
 
@@ -92,6 +164,10 @@ public abstract class JavacordCommandEvent implements CommandIssuer {
      */
     @NotNull
     public User getUser() {
+        User user = this.resolvedUser;
+        if (user == null) {
+            this.resolvedUser = user = resolveUser();
+        }
         return user;
     }
 
@@ -101,7 +177,7 @@ public abstract class JavacordCommandEvent implements CommandIssuer {
      * @return {@code true} if the command was invoked by a bot or webhook, {@code false} if otherwise.
      */
     public boolean isBot() {
-        return user.isBot();
+        return getUser().isBot();
     }
 
     /**
@@ -113,8 +189,9 @@ public abstract class JavacordCommandEvent implements CommandIssuer {
      */
     @NotNull
     public Member getMember() {
-        Preconditions.checkState(server != null, "Cannot get member from non-server event");
-        return new Member(getUser(), server);
+        Optional<Server> server = getServer();
+        Preconditions.checkState(server.isPresent(), "Cannot get member from non-server event");
+        return new Member(getUser(), server.get());
     }
 
     /**
@@ -124,7 +201,11 @@ public abstract class JavacordCommandEvent implements CommandIssuer {
      */
     @NotNull
     public Optional<Server> getServer() {
-        return Optional.ofNullable(server);
+        Optional<Server> server = this.resolvedServer;
+        if (server == null) {
+            this.resolvedServer = server = resolveServer();
+        }
+        return server;
     }
 
     /**
@@ -134,6 +215,10 @@ public abstract class JavacordCommandEvent implements CommandIssuer {
      */
     @NotNull
     public TextChannel getChannel() {
+        TextChannel channel = this.resolvedChannel;
+        if (channel == null) {
+            this.resolvedChannel = channel = resolveChannel();
+        }
         return channel;
     }
 
@@ -143,7 +228,7 @@ public abstract class JavacordCommandEvent implements CommandIssuer {
      * @return {@code true} if the command was invoked in a server, {@code false} if otherwise.
      */
     public boolean isInServer() {
-        return inServer;
+        return getServer().isPresent();
     }
 
     /**
@@ -152,7 +237,7 @@ public abstract class JavacordCommandEvent implements CommandIssuer {
      * @return {@code true} if the command was invoked in a private channel, {@code false} if otherwise.
      */
     public boolean isInPrivate() {
-        return !inServer;
+        return !isInServer();
     }
 
     /**
@@ -162,7 +247,7 @@ public abstract class JavacordCommandEvent implements CommandIssuer {
      */
     @NotNull
     public CompletableFuture<Message> reply(@NotNull String message) {
-        return channel.sendMessage(message);
+        return getChannel().sendMessage(message);
     }
 
     /**
@@ -172,7 +257,7 @@ public abstract class JavacordCommandEvent implements CommandIssuer {
      */
     @NotNull
     public CompletableFuture<Message> reply(@NotNull EmbedBuilder embed) {
-        return channel.sendMessage(embed);
+        return getChannel().sendMessage(embed);
     }
 
     /**
@@ -183,7 +268,7 @@ public abstract class JavacordCommandEvent implements CommandIssuer {
      */
     @NotNull
     public CompletableFuture<Message> reply(@NotNull String message, @NotNull EmbedBuilder embed) {
-        return channel.sendMessage(message, embed);
+        return getChannel().sendMessage(message, embed);
     }
 
     /**
@@ -193,7 +278,7 @@ public abstract class JavacordCommandEvent implements CommandIssuer {
      */
     @NotNull
     public CompletableFuture<Message> reply(File... file) {
-        return channel.sendMessage(file);
+        return getChannel().sendMessage(file);
     }
 
     /**
@@ -204,7 +289,7 @@ public abstract class JavacordCommandEvent implements CommandIssuer {
      */
     @NotNull
     public CompletableFuture<Message> reply(@NotNull InputStream is, @NotNull String fileName) {
-        return channel.sendMessage(is, fileName);
+        return getChannel().sendMessage(is, fileName);
     }
 
     /**
@@ -216,7 +301,7 @@ public abstract class JavacordCommandEvent implements CommandIssuer {
      */
     @NotNull
     public CompletableFuture<Message> replyf(@NotNull String message, Object... replacements) {
-        return channel.sendMessage(String.format(message, replacements));
+        return getChannel().sendMessage(String.format(message, replacements));
     }
 
     /**
@@ -348,6 +433,6 @@ public abstract class JavacordCommandEvent implements CommandIssuer {
      */
     @NotNull
     public JavacordEmbedBuilder newEmbed() {
-        return JavacordEmbedBuilder.forChannel(channel);
+        return JavacordEmbedBuilder.forChannel(getChannel());
     }
 }
@@ -0,0 +1,353 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executes commands on a bounded pool of threads, while keeping commands that share a key (a channel or a user,
+ * depending on the {@link CommandExecutionMode}) in the order they were received.
+ * <p>
+ * Each key gets its own queue, which is drained by at most one pool thread at a time. Keys without pending commands
+ * don't hold on to any resources.
+ *
+ * @since 0.5.1
+ */
+public class JavacordCommandExecutor {
+
+    // Amount of commands a single key may execute before giving other keys a turn
+    private static final int BATCH_SIZE = 16;
+
+    private final AbstractJavacordCommandManager<?, ?, ?> manager;
+    private final CommandExecutionMode mode;
+    private final int capacity;
+    private final RejectionPolicy rejectionPolicy;
+    private final ExecutorService pool;
+    private final boolean virtualThreads;
+    private final ConcurrentHashMap<Long, KeyQueue> queues = new ConcurrentHashMap<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    JavacordCommandExecutor(@NotNull AbstractJavacordCommandManager<?, ?, ?> manager, @NotNull CommandExecutionMode mode, int threads, int capacity, @NotNull RejectionPolicy rejectionPolicy, boolean virtualThreads) {
+        this.manager = manager;
+        this.mode = mode;
+        this.capacity = capacity;
+        this.rejectionPolicy = rejectionPolicy;
+
+        String threadName = "acf-javacord-" + manager.getClass().getSimpleName() + "-";
+        ExecutorService pool = virtualThreads ? VirtualThreads.newThreadPerTaskExecutor(threadName) : null;
+        if (virtualThreads && pool == null) {
+            manager.log(LogLevel.INFO, "Virtual threads are not supported on this Java version, falling back to a fixed thread pool.");
+        }
+        this.pool = pool != null ? pool : Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+                .setNameFormat(threadName + "%d")
+                .setDaemon(true)
+                .build());
+        this.virtualThreads = pool != null;
+    }
+
+    /**
+     * Queues a command for execution.
+     *
+     * @param channelId the ID of the channel the command was issued in.
+     * @param userId the ID of the user that issued the command.
+     * @param command the command to execute.
+     *
+     * @return {@code true} if the command was queued (or executed), {@code false} if it was discarded.
+     */
+    boolean execute(long channelId, long userId, @NotNull Runnable command) {
+        return execute(channelId, userId, command, false);
+    }
+
+    /**
+     * Queues a task for execution without any ordering guarantees, regardless of the execution mode, so it doesn't
+     * wait behind commands issued in the same channel or by the same user. Meant for tasks that have to finish within
+     * a short time, like answering autocomplete requests.
+     *
+     * @param task the task to execute.
+     *
+     * @return {@code true} if the task was queued (or executed), {@code false} if it was discarded.
+     */
+    boolean executeUnordered(@NotNull Runnable task) {
+        return execute(0L, 0L, task, true);
+    }
+
+    private boolean execute(long channelId, long userId, @NotNull Runnable command, boolean unordered) {
+        if (pool.isShutdown()) {
+            rejected.increment();
+            return false;
+        }
+        if (queued.incrementAndGet() > capacity) {
+            queued.decrementAndGet();
+            return reject(command);
+        }
+
+        if (unordered || mode == CommandExecutionMode.UNORDERED) {
+            try {
+                pool.execute(() -> {
+                    queued.decrementAndGet();
+                    run(command);
+                });
+                return true;
+            } catch (RejectedExecutionException ex) {
+                queued.decrementAndGet();
+                return reject(command);
+            }
+        }
+
+        long key = mode == CommandExecutionMode.PER_USER ? userId : channelId;
+        KeyQueue[] schedule = new KeyQueue[1];
+        queues.compute(key, (k, queue) -> {
+            if (queue == null) {
+                queue = new KeyQueue(k);
+            }
+            queue.commands.add(command);
+            if (!queue.scheduled) {
+                queue.scheduled = true;
+                schedule[0] = queue;
+            }
+            return queue;
+        });
+        if (schedule[0] == null) {
+            return true;
+        }
+
+        // Scheduled outside of compute, so a rejection can't escape onto the caller with the queue left marked as scheduled
+        try {
+            pool.execute(schedule[0]);
+            return true;
+        } catch (RejectedExecutionException ex) {
+            return rejectQueue(schedule[0], command);
+        }
+    }
+
+    /**
+     * Handles a command that could not be queued, according to the rejection policy.
+     *
+     * @param command the rejected command.
+     *
+     * @return {@code true} if the command was executed by the caller, {@code false} if it was discarded.
+     */
+    private boolean reject(@NotNull Runnable command) {
+        rejected.increment();
+        if (rejectionPolicy == RejectionPolicy.CALLER_RUNS) {
+            run(command);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Handles a queue that the pool refused to run. The queue is removed and all commands in it, including those that
+     * were added by other callers while it was marked as scheduled, are rejected.
+     *
+     * @param queue the queue that was refused.
+     * @param command the command that caused the queue to be scheduled.
+     *
+     * @return the result of rejecting {@code command}.
+     */
+    private boolean rejectQueue(@NotNull KeyQueue queue, @NotNull Runnable command) {
+        List<Runnable> drained = new ArrayList<>();
+        queues.computeIfPresent(queue.key, (k, current) -> {
+            if (current != queue) {
+                return current;
+            }
+            Runnable next;
+            while ((next = queue.commands.poll()) != null) {
+                drained.add(next);
+            }
+            queue.scheduled = false;
+            return null;
+        });
+
+        boolean result = false;
+        for (Runnable next : drained) {
+            queued.decrementAndGet();
+            boolean executed = reject(next);
+            if (next == command) {
+                result = executed;
+            }
+        }
+        return result;
+    }
+
+    private void run(@NotNull Runnable command) {
+        try {
+            command.run();
+        } catch (Throwable thrown) {
+            manager.log(LogLevel.ERROR, "Uncaught exception while executing command.", thrown);
+        } finally {
+            completed.increment();
+        }
+    }
+
+    /**
+     * Gets the execution mode of this executor.
+     *
+     * @return the execution mode.
+     */
+    @NotNull
+    public CommandExecutionMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Gets whether commands are executed on virtual threads.
+     *
+     * @return {@code true} if commands are executed on virtual threads, {@code false} otherwise.
+     */
+    public boolean isUsingVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Gets the amount of commands that are waiting to be executed.
+     *
+     * @return the amount of queued commands.
+     */
+    public int getQueuedCount() {
+        return queued.get();
+    }
+
+    /**
+     * Gets the amount of commands that are waiting to be executed for the given channel or user ID, depending on the
+     * execution mode.
+     *
+     * @param key the channel or user ID.
+     *
+     * @return the amount of queued commands for the key.
+     */
+    public int getQueueDepth(long key) {
+        KeyQueue queue = queues.get(key);
+        return queue != null ? queue.commands.size() : 0;
+    }
+
+    /**
+     * Gets the amount of channels or users, depending on the execution mode, that currently have commands queued.
+     *
+     * @return the amount of active keys.
+     */
+    public int getActiveKeyCount() {
+        return queues.size();
+    }
+
+    /**
+     * Gets the amount of commands that have been executed.
+     *
+     * @return the amount of executed commands.
+     */
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    /**
+     * Gets the amount of commands that were rejected because the queue was full or the executor was shut down.
+     *
+     * @return the amount of rejected commands.
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * Shuts down the executor, waiting for queued commands to finish for at most the given amount of time.
+     *
+     * @param timeout the maximum time to wait.
+     * @param unit the unit of {@code timeout}.
+     *
+     * @return {@code true} if all commands finished, {@code false} if the timeout elapsed first.
+     *
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public boolean shutdown(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+        pool.shutdown();
+        return pool.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * The queue of commands for a single key.
+     */
+    private final class KeyQueue implements Runnable {
+
+        private final long key;
+        private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+        private boolean scheduled; // Only accessed within ConcurrentHashMap#compute
+
+        private KeyQueue(long key) {
+            this.key = key;
+        }
+
+        @Override
+        public void run() {
+            int executed = 0;
+            while (true) {
+                Runnable command = commands.poll();
+                if (command == null) {
+                    // Remove the queue, unless a command was added in the meantime
+                    if (queues.computeIfPresent(key, (k, queue) -> queue.commands.isEmpty() ? null : queue) == null) {
+                        return;
+                    }
+                    continue;
+                }
+                queued.decrementAndGet();
+                JavacordCommandExecutor.this.run(command);
+
+                if (++executed == BATCH_SIZE) {
+                    // Give other keys a turn
+                    try {
+                        pool.execute(this);
+                        return;
+                    } catch (RejectedExecutionException ex) {
+                        // Shutting down, finish the remaining commands on this thread
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Determines what happens to commands that are received while the queue is full.
+     *
+     * @since 0.5.1
+     */
+    public enum RejectionPolicy {
+
+        /**
+         * The command is silently discarded.
+         */
+        DISCARD,
+
+        /**
+         * The command is executed directly on the thread that received it, bypassing the ordering guarantees.
+         */
+        CALLER_RUNS
+    }
+}
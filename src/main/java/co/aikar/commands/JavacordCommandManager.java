@@ -19,6 +19,8 @@ package co.aikar.commands;
 import org.javacord.api.DiscordApi;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * A {@link CommandManager} that handles both slash commands and message commands. It is a convenience class that
  * combines {@link MessageCommandManager} and {@link SlashCommandManager}.
@@ -89,4 +91,24 @@ public class JavacordCommandManager {
         slashCommandManager.getCommandReplacements().addReplacements(replacements);
         messageCommandManager.getCommandReplacements().addReplacements(replacements);
     }
+
+    /**
+     * Shuts down both managers, waiting for their queued commands and slash command registrations to finish for at
+     * most the given amount of time.
+     *
+     * @param timeout the maximum time to wait.
+     * @param unit the unit of {@code timeout}.
+     *
+     * @return {@code true} if everything finished, {@code false} if the timeout elapsed first.
+     *
+     * @throws InterruptedException if interrupted while waiting.
+     *
+     * @see SlashCommandManager#shutdown(long, TimeUnit)
+     */
+    public boolean shutdown(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        boolean slashFinished = slashCommandManager.shutdown(timeout, unit);
+        long remaining = Math.max(0L, deadline - System.nanoTime());
+        return messageCommandManager.shutdown(remaining, TimeUnit.NANOSECONDS) && slashFinished;
+    }
 }
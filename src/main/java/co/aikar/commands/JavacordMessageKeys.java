@@ -47,6 +47,9 @@ public enum JavacordMessageKeys implements MessageKeyProvider {
     COULD_NOT_FIND_UNICODE_EMOJI,
     PLEASE_SPECIFY_EMOJI,
     INVALID_CHANNEL_TYPE,
+    COMMAND_ON_COOLDOWN,
+    COMMAND_RATE_LIMITED,
+    COMMAND_SHED,
 
     // Slash command-specific
     PLEASE_SPECIFY_CHARACTER,
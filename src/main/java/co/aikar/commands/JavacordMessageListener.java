@@ -33,6 +33,10 @@ public class JavacordMessageListener implements MessageCreateListener {
 
     @Override
     public void onMessageCreate(MessageCreateEvent event) {
+        // Discard regular chatter before doing anything else
+        if (!this.manager.mayBeCommand(event.getMessageContent())) {
+            return;
+        }
         if (!event.getMessageAuthor().isRegularUser()) {
             return;
         }
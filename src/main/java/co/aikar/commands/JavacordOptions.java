@@ -16,9 +16,12 @@
 
 package co.aikar.commands;
 
+import com.google.common.base.Preconditions;
 import org.javacord.api.DiscordApi;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * @since 0.1.0
  */
@@ -27,6 +30,23 @@ public class JavacordOptions {
     CommandConfigProvider messageConfigProvider = null;
     CommandConfigProvider slashConfigProvider = null;
     JavacordPermissionResolver permissionResolver = new JavacordPermissionResolver();
+    long configCacheSize = 0L;
+    long configCacheExpiry = 0L;
+    TimeUnit configCacheExpiryUnit = TimeUnit.MINUTES;
+    CommandExecutionMode executionMode = CommandExecutionMode.INLINE;
+    int executionThreads = Runtime.getRuntime().availableProcessors();
+    int executionQueueCapacity = 1000;
+    JavacordCommandExecutor.RejectionPolicy rejectionPolicy = JavacordCommandExecutor.RejectionPolicy.DISCARD;
+    boolean virtualThreads = false;
+    int maxInFlight = 0;
+    int maxInFlightPerServer = 0;
+    boolean replyWhenShed = false;
+    String slashCommandSnapshot = null;
+    long responseBudgetNanos = 0L;
+    long autocompleteCacheSize = 10_000L;
+    long autocompleteCacheExpiry = 30L;
+    TimeUnit autocompleteCacheExpiryUnit = TimeUnit.SECONDS;
+    int registrationConcurrency = 4;
 
     public JavacordOptions() {}
 
@@ -50,6 +70,173 @@ public class JavacordOptions {
         return this;
     }
 
+    /**
+     * Caches the configurations returned by the message and slash config providers per server and per private
+     * channel, so that the providers aren't called for every single event.
+     *
+     * @param maximumSize the maximum amount of cached configurations, after which the least recently used ones are evicted.
+     * @param expireAfter the time after which a cached configuration expires.
+     * @param unit the unit of {@code expireAfter}.
+     *
+     * @return these options.
+     *
+     * @see CachedCommandConfigProvider
+     */
+    public JavacordOptions cacheConfigs(long maximumSize, long expireAfter, @NotNull TimeUnit unit) {
+        Preconditions.checkArgument(maximumSize > 0, "Maximum cache size must be positive.");
+        Preconditions.checkArgument(expireAfter > 0, "Cache expiry must be positive.");
+        this.configCacheSize = maximumSize;
+        this.configCacheExpiry = expireAfter;
+        this.configCacheExpiryUnit = unit;
+        return this;
+    }
+
+    /**
+     * Sets the mode in which commands are executed. By default, commands are executed inline on Javacord's listener
+     * thread.
+     *
+     * @param executionMode the execution mode.
+     *
+     * @return these options.
+     */
+    public JavacordOptions executionMode(@NotNull CommandExecutionMode executionMode) {
+        this.executionMode = executionMode;
+        return this;
+    }
+
+    /**
+     * Sets the amount of threads in each manager's command pool. Only applies if commands aren't executed inline.
+     *
+     * @param threads the amount of threads.
+     *
+     * @return these options.
+     */
+    public JavacordOptions executionThreads(int threads) {
+        Preconditions.checkArgument(threads > 0, "Amount of threads must be positive.");
+        this.executionThreads = threads;
+        return this;
+    }
+
+    /**
+     * Sets the maximum amount of commands that may be waiting for execution in each manager's command pool, after
+     * which the rejection policy applies. Only applies if commands aren't executed inline.
+     *
+     * @param capacity the maximum amount of queued commands.
+     * @param rejectionPolicy the policy for commands received while the queue is full.
+     *
+     * @return these options.
+     */
+    public JavacordOptions executionQueue(int capacity, @NotNull JavacordCommandExecutor.RejectionPolicy rejectionPolicy) {
+        Preconditions.checkArgument(capacity > 0, "Queue capacity must be positive.");
+        this.executionQueueCapacity = capacity;
+        this.rejectionPolicy = rejectionPolicy;
+        return this;
+    }
+
+    /**
+     * Sets whether commands are executed on virtual threads instead of a fixed pool of platform threads. Requires
+     * Java 21 or newer; on older versions, the fixed pool is used regardless.
+     * <p>
+     * If no execution mode has been set, every command is executed on its own virtual thread, without ordering
+     * guarantees.
+     *
+     * @param virtualThreads whether to use virtual threads.
+     *
+     * @return these options.
+     */
+    public JavacordOptions virtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+        return this;
+    }
+
+    /**
+     * Limits the amount of commands that are executed at the same time, globally and per server. Commands that would
+     * exceed either limit are shed, unless they are invoked by the bot owner or marked as
+     * {@link co.aikar.commands.javacord.annotation.Critical critical}.
+     *
+     * @param maxInFlight the maximum amount of commands executed at the same time, or {@code 0} for no limit.
+     * @param maxInFlightPerServer the maximum amount of commands executed at the same time within a single server, or {@code 0} for no limit.
+     * @param replyWhenShed whether to reply to the issuer of a shed command, instead of shedding it silently.
+     *
+     * @return these options.
+     *
+     * @see CommandAdmissionController
+     */
+    public JavacordOptions admissionControl(int maxInFlight, int maxInFlightPerServer, boolean replyWhenShed) {
+        Preconditions.checkArgument(maxInFlight >= 0, "Maximum amount of commands in flight must not be negative.");
+        Preconditions.checkArgument(maxInFlightPerServer >= 0, "Maximum amount of commands in flight per server must not be negative.");
+        this.maxInFlight = maxInFlight;
+        this.maxInFlightPerServer = maxInFlightPerServer;
+        this.replyWhenShed = replyWhenShed;
+        return this;
+    }
+
+    /**
+     * Stores the registered slash commands and their IDs in a local JSON file, so that slash commands that haven't
+     * changed since the last time the bot was started aren't registered to Discord again.
+     *
+     * @param path the path of the snapshot file.
+     *
+     * @return these options.
+     */
+    public JavacordOptions slashCommandSnapshot(@NotNull String path) {
+        this.slashCommandSnapshot = path;
+        return this;
+    }
+
+    /**
+     * Sets the time a slash command may take to respond, before a deferred response is sent on its behalf. Commands
+     * can override this with {@link co.aikar.commands.javacord.annotation.ResponseBudget}. Disabled by default; a budget of
+     * 2 seconds leaves some margin within Discord's 3-second window.
+     * <p>
+     * Commands that respond through {@link SlashCommandEvent#newImmediateResponse()} should use the {@code respond}
+     * methods instead once automatic deferral is enabled, as an immediate response can't be sent after deferral.
+     *
+     * @param budget the response budget, or {@code 0} to disable automatic deferral.
+     * @param unit the unit of {@code budget}.
+     *
+     * @return these options.
+     */
+    public JavacordOptions responseBudget(long budget, @NotNull TimeUnit unit) {
+        Preconditions.checkArgument(budget >= 0L, "Response budget must not be negative.");
+        this.responseBudgetNanos = unit.toNanos(budget);
+        return this;
+    }
+
+    /**
+     * Sets the size and expiry of the cache for the autocomplete choices of options marked with
+     * {@code @Flags("autocomplete,autocompletecache")}.
+     *
+     * @param maximumSize the maximum amount of cached prefixes, after which the least recently used ones are evicted.
+     * @param expireAfter the time after which cached choices expire.
+     * @param unit the unit of {@code expireAfter}.
+     *
+     * @return these options.
+     *
+     * @see SlashAutocompleteCache
+     */
+    public JavacordOptions autocompleteCache(long maximumSize, long expireAfter, @NotNull TimeUnit unit) {
+        Preconditions.checkArgument(maximumSize > 0L, "Maximum cache size must be positive.");
+        this.autocompleteCacheSize = maximumSize;
+        this.autocompleteCacheExpiry = expireAfter;
+        this.autocompleteCacheExpiryUnit = unit;
+        return this;
+    }
+
+    /**
+     * Sets the maximum amount of scopes (the global commands, and the commands of each server) whose slash commands
+     * are registered at the same time.
+     *
+     * @param concurrency the maximum amount of concurrent registrations.
+     *
+     * @return these options.
+     */
+    public JavacordOptions registrationConcurrency(int concurrency) {
+        Preconditions.checkArgument(concurrency > 0, "Registration concurrency must be positive.");
+        this.registrationConcurrency = concurrency;
+        return this;
+    }
+
     public JavacordCommandManager createManager(@NotNull DiscordApi api) {
         return new JavacordCommandManager(api, this);
     }
@@ -16,6 +16,7 @@
 
 package co.aikar.commands;
 
+import co.aikar.commands.javacord.annotation.Critical;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.SetMultimap;
 import org.jetbrains.annotations.NotNull;
@@ -36,6 +37,7 @@ public class JavacordRootCommand implements RootCommand {
     protected BaseCommand defCommand;
     protected final SetMultimap<String, RegisteredCommand> subCommands = HashMultimap.create();
     protected final List<BaseCommand> children = new ArrayList<>();
+    boolean critical = false;
 
     JavacordRootCommand(@NotNull AbstractJavacordCommandManager<?, ?, ?> manager, @NotNull String name) {
         this.manager = manager;
@@ -48,6 +50,18 @@ public class JavacordRootCommand implements RootCommand {
             defCommand = command;
         }
         addChildShared(children, subCommands, command);
+        if (command.getClass().isAnnotationPresent(Critical.class)) {
+            critical = true;
+        }
+    }
+
+    /**
+     * Gets whether any of the commands of this root command is marked as {@link Critical critical}.
+     *
+     * @return {@code true} if this root command is critical, {@code false} otherwise.
+     */
+    public boolean isCritical() {
+        return critical;
     }
 
     @Override
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands;
+
+import org.javacord.api.entity.channel.TextChannel;
+import org.javacord.api.entity.server.Server;
+import org.javacord.api.entity.user.User;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Optional;
+
+/**
+ * A command event whose user, server and channel are resolved from the underlying Javacord event the first time they
+ * are accessed, so commands that never use them don't pay for the lookups.
+ *
+ * @since 0.5.1
+ * @see MessageCommandEvent
+ * @see SlashCommandEvent
+ */
+@SuppressWarnings("rawtypes")
+public abstract class LazyJavacordCommandEvent extends JavacordCommandEvent {
+
+    protected LazyJavacordCommandEvent(@NotNull AbstractJavacordCommandManager manager) {
+        super(manager);
+    }
+
+    @Override
+    @NotNull
+    protected abstract User resolveUser();
+
+    @Override
+    @NotNull
+    protected abstract Optional<Server> resolveServer();
+
+    @Override
+    @NotNull
+    protected abstract TextChannel resolveChannel();
+}
@@ -24,6 +24,7 @@ import co.aikar.commands.javacord.annotation.CrossServer;
 import co.aikar.commands.javacord.context.Member;
 import co.aikar.commands.javacord.context.UnicodeEmoji;
 import co.aikar.commands.javacord.exception.JavacordInvalidCommandArgument;
+import co.aikar.commands.javacord.util.MentionParser;
 import com.google.common.collect.Iterables;
 import com.vdurmont.emoji.EmojiManager;
 import org.javacord.api.entity.channel.*;
@@ -31,7 +32,6 @@ import org.javacord.api.entity.emoji.Emoji;
 import org.javacord.api.entity.emoji.KnownCustomEmoji;
 import org.javacord.api.entity.permission.Role;
 import org.javacord.api.entity.user.User;
-import org.javacord.api.util.DiscordRegexPattern;
 import org.jetbrains.annotations.NotNull;
 
 import java.math.BigDecimal;
@@ -153,8 +153,8 @@ public class MessageCommandContexts extends JavacordCommandContexts<MessageComma
 
             User user = null;
             if (!(arg == null || arg.isEmpty())) {
-                if (DiscordRegexPattern.USER_MENTION.matcher(arg).matches()) {
-                    String id = arg.replaceAll("[^0-9]", ""); // Extract non-negative integers from string
+                long id = MentionParser.parseUserMention(arg);
+                if (id != MentionParser.NONE) {
                     user = api.getUserById(id).join();
 
                     if (c.hasFlag("humanonly") && user.isBot()) {
@@ -198,8 +198,8 @@ public class MessageCommandContexts extends JavacordCommandContexts<MessageComma
 
             User user = null;
             if (!(arg == null || arg.isEmpty())) {
-                if (DiscordRegexPattern.USER_MENTION.matcher(arg).matches()) {
-                    String id = arg.replaceAll("[^0-9]", ""); // Extract non-negative integers from string
+                long id = MentionParser.parseUserMention(arg);
+                if (id != MentionParser.NONE) {
                     user = api.getUserById(id).join();
                     c.popFirstArg(); // Consume input
                 } else {
@@ -233,13 +233,11 @@ public class MessageCommandContexts extends JavacordCommandContexts<MessageComma
             boolean isCrossServer = c.hasAnnotation(CrossServer.class);
             String arg = c.getFirstArg(); // Test input
             Channel channel = null;
-            if (DiscordRegexPattern.CHANNEL_MENTION.matcher(arg).matches()) {
-                String id = arg.replaceAll("[^0-9]", ""); // Extract non-negative integers to retrieve ID
+            long id = MentionParser.parseChannelMention(arg);
+            if (id != MentionParser.NONE) {
                 channel = isCrossServer || !c.issuer.getServer().isPresent()
-                        ? api.getChannelById(id).isPresent()
-                        ? api.getChannelById(id).get() : null
-                        : c.issuer.getServer().get().getChannelById(id).isPresent()
-                        ? c.issuer.getServer().get().getChannelById(id).get() : null;
+                        ? api.getChannelById(id).orElse(null)
+                        : c.issuer.getServer().get().getChannelById(id).orElse(null);
             }
 
             if (channel != null) {
@@ -266,13 +264,11 @@ public class MessageCommandContexts extends JavacordCommandContexts<MessageComma
             boolean isCrossServer = c.hasAnnotation(CrossServer.class);
             String arg = c.getFirstArg(); // Test input
             TextChannel channel = null;
-            if (DiscordRegexPattern.CHANNEL_MENTION.matcher(arg).matches()) {
-                String id = arg.replaceAll("[^0-9]", ""); // Extract non-negative integers to retrieve ID
+            long id = MentionParser.parseChannelMention(arg);
+            if (id != MentionParser.NONE) {
                 channel = isCrossServer || !c.issuer.getServer().isPresent()
-                        ? api.getTextChannelById(id).isPresent()
-                        ? api.getTextChannelById(id).get() : null
-                        : c.issuer.getServer().get().getTextChannelById(id).isPresent()
-                        ? c.issuer.getServer().get().getTextChannelById(id).get() : null;
+                        ? api.getTextChannelById(id).orElse(null)
+                        : c.issuer.getServer().get().getTextChannelById(id).orElse(null);
             }
 
             if (channel != null) {
@@ -296,13 +292,11 @@ public class MessageCommandContexts extends JavacordCommandContexts<MessageComma
             boolean isCrossServer = c.hasAnnotation(CrossServer.class);
             String arg = c.getFirstArg(); // Test input
             ChannelCategory category = null;
-            if (DiscordRegexPattern.CHANNEL_MENTION.matcher(arg).matches()) {
-                String id = arg.replaceAll("[^0-9]", ""); // Extract non-negative integers to retrieve ID
+            long id = MentionParser.parseChannelMention(arg);
+            if (id != MentionParser.NONE) {
                 category = isCrossServer || !c.issuer.getServer().isPresent()
-                        ? api.getChannelCategoryById(id).isPresent()
-                        ? api.getChannelCategoryById(id).get() : null
-                        : c.issuer.getServer().get().getChannelCategoryById(id).isPresent()
-                        ? c.issuer.getServer().get().getChannelCategoryById(id).get() : null;
+                        ? api.getChannelCategoryById(id).orElse(null)
+                        : c.issuer.getServer().get().getChannelCategoryById(id).orElse(null);
             }
 
             if (category != null) {
@@ -326,13 +320,11 @@ public class MessageCommandContexts extends JavacordCommandContexts<MessageComma
             boolean isCrossServer = c.hasAnnotation(CrossServer.class);
             String arg = c.getFirstArg(); // Test input
             ServerTextChannel channel = null;
-            if (DiscordRegexPattern.CHANNEL_MENTION.matcher(arg).matches()) {
-                String id = arg.replaceAll("[^0-9]", ""); // Extract non-negative integers to retrieve ID
+            long id = MentionParser.parseChannelMention(arg);
+            if (id != MentionParser.NONE) {
                 channel = isCrossServer || !c.issuer.getServer().isPresent()
-                        ? api.getServerTextChannelById(id).isPresent()
-                        ? api.getServerTextChannelById(id).get() : null
-                        : c.issuer.getServer().get().getTextChannelById(id).isPresent()
-                        ? c.issuer.getServer().get().getTextChannelById(id).get() : null;
+                        ? api.getServerTextChannelById(id).orElse(null)
+                        : c.issuer.getServer().get().getTextChannelById(id).orElse(null);
             }
 
             if (channel != null) {
@@ -356,13 +348,11 @@ public class MessageCommandContexts extends JavacordCommandContexts<MessageComma
             boolean isCrossServer = c.hasAnnotation(CrossServer.class);
             String arg = c.getFirstArg(); // Test input
             VoiceChannel channel = null;
-            if (DiscordRegexPattern.CHANNEL_MENTION.matcher(arg).matches()) {
-                String id = arg.replaceAll("[^0-9]", ""); // Extract non-negative integers to retrieve ID
+            long id = MentionParser.parseChannelMention(arg);
+            if (id != MentionParser.NONE) {
                 channel = isCrossServer || !c.issuer.getServer().isPresent()
-                        ? api.getVoiceChannelById(id).isPresent()
-                        ? api.getVoiceChannelById(id).get() : null
-                        : c.issuer.getServer().get().getVoiceChannelById(id).isPresent()
-                        ? c.issuer.getServer().get().getVoiceChannelById(id).get() : null;
+                        ? api.getVoiceChannelById(id).orElse(null)
+                        : c.issuer.getServer().get().getVoiceChannelById(id).orElse(null);
             }
 
             if (channel != null) {
@@ -385,13 +375,11 @@ public class MessageCommandContexts extends JavacordCommandContexts<MessageComma
             boolean isCrossServer = c.hasAnnotation(CrossServer.class);
             String arg = c.getFirstArg(); // Test input
             ServerVoiceChannel channel = null;
-            if (DiscordRegexPattern.CHANNEL_MENTION.matcher(arg).matches()) {
-                String id = arg.replaceAll("[^0-9]", ""); // Extract non-negative integers to retrieve ID
+            long id = MentionParser.parseChannelMention(arg);
+            if (id != MentionParser.NONE) {
                 channel = isCrossServer || !c.issuer.getServer().isPresent()
-                        ? api.getServerVoiceChannelById(id).isPresent()
-                        ? api.getServerVoiceChannelById(id).get() : null
-                        : c.issuer.getServer().get().getVoiceChannelById(id).isPresent()
-                        ? c.issuer.getServer().get().getVoiceChannelById(id).get() : null;
+                        ? api.getServerVoiceChannelById(id).orElse(null)
+                        : c.issuer.getServer().get().getVoiceChannelById(id).orElse(null);
             }
 
             if (channel != null) {
@@ -410,13 +398,11 @@ public class MessageCommandContexts extends JavacordCommandContexts<MessageComma
             boolean isCrossServer = c.hasAnnotation(CrossServer.class);
             String arg = c.getFirstArg(); // Test input
             ServerForumChannel channel = null;
-            if (DiscordRegexPattern.CHANNEL_MENTION.matcher(arg).matches()) {
-                String id = arg.replaceAll("[^0-9]", ""); // Extract non-negative integers to retrieve ID
+            long id = MentionParser.parseChannelMention(arg);
+            if (id != MentionParser.NONE) {
                 channel = isCrossServer || !c.issuer.getServer().isPresent()
-                        ? api.getServerForumChannelById(id).isPresent()
-                        ? api.getServerForumChannelById(id).get() : null
-                        : c.issuer.getServer().get().getForumChannelById(id).isPresent()
-                        ? c.issuer.getServer().get().getForumChannelById(id).get() : null;
+                        ? api.getServerForumChannelById(id).orElse(null)
+                        : c.issuer.getServer().get().getForumChannelById(id).orElse(null);
             }
 
             if (channel != null) {
@@ -435,13 +421,11 @@ public class MessageCommandContexts extends JavacordCommandContexts<MessageComma
             boolean isCrossServer = c.hasAnnotation(CrossServer.class);
             String arg = c.getFirstArg(); // Test input
             ServerThreadChannel channel = null;
-            if (DiscordRegexPattern.CHANNEL_MENTION.matcher(arg).matches()) {
-                String id = arg.replaceAll("[^0-9]", ""); // Extract non-negative integers to retrieve ID
+            long id = MentionParser.parseChannelMention(arg);
+            if (id != MentionParser.NONE) {
                 channel = isCrossServer || !c.issuer.getServer().isPresent()
-                        ? api.getServerThreadChannelById(id).isPresent()
-                        ? api.getServerThreadChannelById(id).get() : null
-                        : c.issuer.getServer().get().getThreadChannelById(id).isPresent()
-                        ? c.issuer.getServer().get().getThreadChannelById(id).get() : null;
+                        ? api.getServerThreadChannelById(id).orElse(null)
+                        : c.issuer.getServer().get().getThreadChannelById(id).orElse(null);
             }
 
             if (channel != null) {
@@ -460,13 +444,11 @@ public class MessageCommandContexts extends JavacordCommandContexts<MessageComma
             boolean isCrossServer = c.hasAnnotation(CrossServer.class);
             String arg = c.getFirstArg(); // Test input
             ServerStageVoiceChannel channel = null;
-            if (DiscordRegexPattern.CHANNEL_MENTION.matcher(arg).matches()) {
-                String id = arg.replaceAll("[^0-9]", ""); // Extract non-negative integers to retrieve ID
+            long id = MentionParser.parseChannelMention(arg);
+            if (id != MentionParser.NONE) {
                 channel = isCrossServer || !c.issuer.getServer().isPresent()
-                        ? api.getServerStageVoiceChannelById(id).isPresent()
-                        ? api.getServerStageVoiceChannelById(id).get() : null
-                        : c.issuer.getServer().get().getStageVoiceChannelById(id).isPresent()
-                        ? c.issuer.getServer().get().getStageVoiceChannelById(id).get() : null;
+                        ? api.getServerStageVoiceChannelById(id).orElse(null)
+                        : c.issuer.getServer().get().getStageVoiceChannelById(id).orElse(null);
             }
 
             if (channel != null) {
@@ -488,29 +470,25 @@ public class MessageCommandContexts extends JavacordCommandContexts<MessageComma
             }
 
             Optional<Role> role = Optional.empty();
-            if (DiscordRegexPattern.ROLE_MENTION.matcher(arg).matches()) {
-                String id = arg.replaceAll("[^0-9]", ""); // Extract non-negative integers to retrieve ID
+            long id = MentionParser.parseRoleMention(arg);
+            if (id == MentionParser.NONE) {
+                id = MentionParser.parseSnowflake(arg, 0, arg.length()); // Plain role ID
+            }
+            if (id != MentionParser.NONE) {
                 role = (!isCrossServer && c.issuer.getServer().isPresent())
                         ? c.issuer.getServer().get().getRoleById(id)
                         : api.getRoleById(id);
             }
             else {
-                try {
-                    long id = Long.parseLong(arg);
-                    role = (!isCrossServer && c.issuer.getServer().isPresent())
-                            ? c.issuer.getServer().get().getRoleById(id)
-                            : api.getRoleById(id);
-                } catch (NumberFormatException ex) {
-                    Collection<Role> roles = (!isCrossServer && c.issuer.getServer().isPresent())
-                            ? c.issuer.getServer().get().getRolesByNameIgnoreCase(arg)
-                            : api.getRolesByNameIgnoreCase(arg);
-
-                    if (roles.size() > 1) {
-                        throw new JavacordInvalidCommandArgument(JavacordMessageKeys.TOO_MANY_ROLES_WITH_NAME);
-                    }
-                    if (!roles.isEmpty()) {
-                        role = Optional.of(ACFUtil.getFirstElement(roles));
-                    }
+                Collection<Role> roles = (!isCrossServer && c.issuer.getServer().isPresent())
+                        ? c.issuer.getServer().get().getRolesByNameIgnoreCase(arg)
+                        : api.getRolesByNameIgnoreCase(arg);
+
+                if (roles.size() > 1) {
+                    throw new JavacordInvalidCommandArgument(JavacordMessageKeys.TOO_MANY_ROLES_WITH_NAME);
+                }
+                if (!roles.isEmpty()) {
+                    role = Optional.of(ACFUtil.getFirstElement(roles));
                 }
             }
 
@@ -527,8 +505,8 @@ public class MessageCommandContexts extends JavacordCommandContexts<MessageComma
             }
 
             Emoji emoji = null;
-            if (DiscordRegexPattern.CUSTOM_EMOJI.matcher(arg).matches()) {
-                String id = arg.replaceAll("[^0-9]", ""); // Extract non-negative integers to retrieve ID
+            long id = MentionParser.parseCustomEmoji(arg);
+            if (id != MentionParser.NONE) {
                 if (!api.getCustomEmojiById(id).isPresent()) {
                     throw new JavacordInvalidCommandArgument(JavacordMessageKeys.COULD_NOT_FIND_EMOJI);
                 }
@@ -561,8 +539,8 @@ public class MessageCommandContexts extends JavacordCommandContexts<MessageComma
             }
 
             Optional<KnownCustomEmoji> emoji = Optional.empty();
-            if (DiscordRegexPattern.CUSTOM_EMOJI.matcher(arg).matches()) {
-                String id = arg.replaceAll("[^0-9]", ""); // Extract non-negative integers to retrieve ID
+            long id = MentionParser.parseCustomEmoji(arg);
+            if (id != MentionParser.NONE) {
                 emoji = api.getCustomEmojiById(id);
             } else {
                 Collection<KnownCustomEmoji> emojis = api.getCustomEmojisByName(arg);
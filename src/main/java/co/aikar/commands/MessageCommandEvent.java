@@ -16,10 +16,14 @@
 
 package co.aikar.commands;
 
+import org.javacord.api.entity.channel.TextChannel;
 import org.javacord.api.entity.message.Message;
+import org.javacord.api.entity.server.Server;
+import org.javacord.api.entity.user.User;
 import org.javacord.api.event.message.MessageCreateEvent;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -29,17 +33,35 @@ import java.util.concurrent.CompletableFuture;
  * @see JavacordCommandEvent
  * @see SlashCommandEvent
  */
-public class MessageCommandEvent extends JavacordCommandEvent {
+public class MessageCommandEvent extends LazyJavacordCommandEvent {
 
     private final MessageCreateEvent event;
 
-    @SuppressWarnings("OptionalGetWithoutIsPresent")
     protected MessageCommandEvent(@NotNull MessageCommandManager manager, @NotNull MessageCreateEvent event) {
-        super(manager, event.getMessageAuthor().asUser().get(), event.getServer().orElse(null), event.getChannel());
+        super(manager);
 
         this.event = event;
     }
 
+    @Override
+    @NotNull
+    @SuppressWarnings("OptionalGetWithoutIsPresent")
+    protected User resolveUser() {
+        return event.getMessageAuthor().asUser().get();
+    }
+
+    @Override
+    @NotNull
+    protected Optional<Server> resolveServer() {
+        return event.getServer();
+    }
+
+    @Override
+    @NotNull
+    protected TextChannel resolveChannel() {
+        return event.getChannel();
+    }
+
     @Override
     @NotNull
     @SuppressWarnings("unchecked")
@@ -21,6 +21,7 @@ import org.javacord.api.entity.message.Message;
 import org.javacord.api.event.message.MessageCreateEvent;
 import org.jetbrains.annotations.NotNull;
 
+import java.lang.reflect.Method;
 import java.util.*;
 
 /**
@@ -37,6 +38,9 @@ public class MessageCommandManager
                     MessageCommandConditionContext>
 {
 
+    // The last possible prefixes of the configuration provider, with the matcher compiled from them
+    private volatile ProviderPrefixes providerPrefixes;
+
     public MessageCommandManager(@NotNull DiscordApi api) {
         this(api, new JavacordOptions());
     }
@@ -45,17 +49,12 @@ public class MessageCommandManager
         super(api, options);
 
         this.contexts = new MessageCommandContexts(this);
-        this.configProvider = options.messageConfigProvider;
+        this.configProvider = wrapConfigProvider(options.messageConfigProvider);
 
         // Register message listener
         api.addMessageCreateListener(new JavacordMessageListener(this));
     }
 
-    @Override
-    public boolean hasRegisteredCommands() {
-        return !commands.isEmpty();
-    }
-
     @Override
     public MessageCommandEvent getCommandIssuer(Object issuer) {
         if (!(issuer instanceof MessageCreateEvent)) {
@@ -80,8 +79,9 @@ public class MessageCommandManager
     }
 
     @Override
-    public Collection<RootCommand> getRegisteredRootCommands() {
-        return Collections.unmodifiableCollection(commands.values());
+    @SuppressWarnings("rawtypes")
+    public RegisteredCommand createRegisteredCommand(BaseCommand command, String cmdname, Method method, String prefSubcommand) {
+        return new MessageRegisteredCommand(command, cmdname, method, prefSubcommand);
     }
 
     @Override
@@ -89,34 +89,80 @@ public class MessageCommandManager
         return new MessageCommandExecutionContext(command, parameter, (MessageCommandEvent) sender, args, i, passedArgs);
     }
 
+    /**
+     * Checks whether the given message content could be a command, by checking its first character against the
+     * prefixes of the default configuration and the possible prefixes of the configuration provider.
+     *
+     * @param content the content of the message.
+     *
+     * @return {@code true} if the content could be a command, {@code false} if it certainly isn't.
+     */
+    boolean mayBeCommand(@NotNull String content) {
+        if (this.defaultConfig.getPrefixMatcher().mayMatch(content)) {
+            return true;
+        }
+        CommandConfigProvider provider = this.configProvider;
+        if (provider == null) {
+            return false;
+        }
+        List<String> prefixes = provider.getPossibleCommandPrefixes();
+        return prefixes == null || getProviderPrefixMatcher(prefixes).mayMatch(content);
+    }
+
+    /**
+     * Gets the matcher for the possible prefixes of the configuration provider. The matcher is only compiled again
+     * when the provider returns a different list, or when a tracked prefix list has been modified, so the check for
+     * every message doesn't have to hash or compare the prefixes.
+     *
+     * @param prefixes the possible prefixes returned by the provider.
+     *
+     * @return the matcher for the prefixes.
+     */
+    @NotNull
+    private CommandPrefixMatcher getProviderPrefixMatcher(@NotNull List<String> prefixes) {
+        ProviderPrefixes compiled = this.providerPrefixes;
+        if (compiled == null || compiled.prefixes != prefixes
+                || (prefixes instanceof CommandPrefixList && !compiled.matcher.isCompiledFrom(prefixes))) {
+            compiled = new ProviderPrefixes(prefixes, CommandPrefixMatcher.compile(prefixes));
+            this.providerPrefixes = compiled;
+        }
+        return compiled.matcher;
+    }
+
     /**
      * Dispatches a {@link MessageCreateEvent} to the command manager.
      *
      * @param event the {@code MessageCreateEvent} to dispatch.
      */
     void dispatchEvent(@NotNull MessageCreateEvent event) {
+        dispatch(event.getChannel().getId(), event.getMessageAuthor().getId(), () -> handleEvent(event));
+    }
+
+    /**
+     * Handles a {@link MessageCreateEvent}, executing the command it invokes, if any.
+     *
+     * @param event the {@code MessageCreateEvent} to handle.
+     */
+    private void handleEvent(@NotNull MessageCreateEvent event) {
         Message message = event.getMessage();
         String msg = message.getContent();
 
         CommandConfig config = getCommandConfig(event);
 
-        String prefixFound = null;
-        for (String prefix : config.getCommandPrefixes()) {
-            if (msg.startsWith(prefix)) {
-                prefixFound = prefix;
-                break;
-            }
-        }
-        if (prefixFound == null) {
+        int prefixLength = config.getPrefixMatcher().match(msg);
+        if (prefixLength < 0) {
             return;
         }
 
-        String[] args = ACFPatterns.SPACE.split(msg.substring(prefixFound.length()), -1);
-        if (args.length == 0) {
+        CommandArguments args = CommandArguments.tokenize(msg, prefixLength);
+        if (args.isEmpty()) {
+            return;
+        }
+        RootCommand rootCommand = findRootCommand(msg, args.start(0), args.end(0));
+        if (rootCommand == null) {
             return;
         }
-        String cmd = args[0].toLowerCase(Locale.ENGLISH);
-        executeRootCommand(event, cmd, args);
+        executeRootCommand(event, rootCommand, rootCommand.getCommandName(), args.toArray(1));
     }
 
     /**
@@ -137,4 +183,15 @@ public class MessageCommandManager
         }
         return config;
     }
+
+    private static final class ProviderPrefixes {
+
+        private final List<String> prefixes;
+        private final CommandPrefixMatcher matcher;
+
+        private ProviderPrefixes(@NotNull List<String> prefixes, @NotNull CommandPrefixMatcher matcher) {
+            this.prefixes = prefixes;
+            this.matcher = matcher;
+        }
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package co.aikar.commands;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * @since 0.5.1
+ */
+@SuppressWarnings("rawtypes,unchecked")
+public class MessageRegisteredCommand extends RegisteredCommand {
+
+    final CommandRateLimiter[] rateLimiters;
+    private final CommandInvoker invoker;
+
+    MessageRegisteredCommand(@NotNull BaseCommand scope, @NotNull String command, @NotNull Method method, @NotNull String prefSubCommand) {
+        super(scope, command, method, prefSubCommand);
+        this.rateLimiters = CommandRateLimiter.forMethod(method);
+        this.invoker = CommandInvoker.of(method);
+    }
+
+    @Override
+    void invoke(CommandIssuer sender, List args, CommandOperationContext context) {
+        if (!scope.canExecute(sender, this)) {
+            return;
+        }
+
+        // Same as RegisteredCommand#invoke, but with the prebuilt invoker instead of reflection
+        preCommand();
+        MessageCommandManager manager = (MessageCommandManager) this.manager;
+        MessageCommandEvent event = (MessageCommandEvent) sender;
+        try {
+            // Before any resolvers run, so requests over the limits are cheap to reject
+            manager.checkRateLimits(rateLimiters, event);
+            Map<String, Object> passedArgs;
+            try {
+                manager.getCommandConditions().validateConditions(context);
+                passedArgs = resolveContexts(sender, args);
+            } catch (Exception ex) {
+                manager.releaseRateLimits(rateLimiters, event);
+                throw ex;
+            }
+            if (passedArgs == null) {
+                manager.releaseRateLimits(rateLimiters, event);
+                return;
+            }
+
+            Object obj = invoker.invoke(scope, passedArgs.values().toArray());
+            if (obj instanceof CompletionStage) {
+                CompletionStage<?> future = (CompletionStage<?>) obj;
+                future.exceptionally((t) -> {
+                    handleException(sender, args, t);
+                    return null;
+                });
+            }
+        } catch (Exception ex) {
+            handleException(sender, args, ex);
+        } finally {
+            postCommand();
+        }
+    }
+}
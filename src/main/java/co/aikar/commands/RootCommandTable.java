@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package co.aikar.commands;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * An immutable table of root commands by name, with case-insensitive lookups.
+ * <p>
+ * Registering a command creates a new table, which the command manager publishes by replacing its reference to the
+ * old one. Lookups therefore never lock and never see a partially updated table. Names are matched character by
+ * character, so lookups can be done on a region of the input without creating a lowercase copy of it.
+ *
+ * @since 0.5.1
+ */
+final class RootCommandTable {
+
+    static final RootCommandTable EMPTY = new RootCommandTable(new String[0], new RootCommand[0]);
+
+    // Registration order, for iteration
+    private final String[] names;
+    private final RootCommand[] commands;
+    // Open-addressing index into the arrays above, -1 marks an empty slot
+    private final int[] slots;
+    private final List<RootCommand> values;
+
+    private RootCommandTable(@NotNull String[] names, @NotNull RootCommand[] commands) {
+        this.names = names;
+        this.commands = commands;
+        this.values = Collections.unmodifiableList(Arrays.asList(commands));
+
+        int capacity = 4;
+        while (capacity < names.length * 2) {
+            capacity <<= 1;
+        }
+        this.slots = new int[capacity];
+        Arrays.fill(slots, -1);
+        for (int i = 0; i < names.length; i++) {
+            int slot = hash(names[i], 0, names[i].length()) & (capacity - 1);
+            while (slots[slot] != -1) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            slots[slot] = i;
+        }
+    }
+
+    /**
+     * Creates a new table with the given command added, or replacing the command with the same name.
+     *
+     * @param name the name of the command.
+     * @param command the command.
+     *
+     * @return the new table.
+     */
+    @NotNull
+    RootCommandTable with(@NotNull String name, @NotNull RootCommand command) {
+        String key = name.toLowerCase(Locale.ENGLISH);
+        int index = indexOf(key, 0, key.length());
+        if (index >= 0) {
+            RootCommand[] commands = this.commands.clone();
+            commands[index] = command;
+            return new RootCommandTable(names, commands);
+        }
+
+        String[] names = Arrays.copyOf(this.names, this.names.length + 1);
+        RootCommand[] commands = Arrays.copyOf(this.commands, this.commands.length + 1);
+        names[names.length - 1] = key;
+        commands[commands.length - 1] = command;
+        return new RootCommandTable(names, commands);
+    }
+
+    /**
+     * Gets the command with the given name, ignoring case.
+     *
+     * @param name the name of the command.
+     *
+     * @return the command, or {@code null} if there is no command with that name.
+     */
+    @Nullable
+    RootCommand get(@NotNull CharSequence name) {
+        return get(name, 0, name.length());
+    }
+
+    /**
+     * Gets the command whose name is the given region of a character sequence, ignoring case.
+     *
+     * @param input the character sequence containing the name.
+     * @param start the index of the first character of the name.
+     * @param end the index after the last character of the name.
+     *
+     * @return the command, or {@code null} if there is no command with that name.
+     */
+    @Nullable
+    RootCommand get(@NotNull CharSequence input, int start, int end) {
+        int index = indexOf(input, start, end);
+        return index >= 0 ? commands[index] : null;
+    }
+
+    /**
+     * Gets whether the table contains no commands.
+     *
+     * @return {@code true} if the table is empty, {@code false} otherwise.
+     */
+    boolean isEmpty() {
+        return commands.length == 0;
+    }
+
+    /**
+     * Gets the commands in this table, in the order they were added.
+     *
+     * @return an unmodifiable list of the commands.
+     */
+    @NotNull
+    List<RootCommand> values() {
+        return values;
+    }
+
+    private int indexOf(@NotNull CharSequence input, int start, int end) {
+        int mask = slots.length - 1;
+        int slot = hash(input, start, end) & mask;
+        int index;
+        while ((index = slots[slot]) != -1) {
+            if (matches(names[index], input, start, end)) {
+                return index;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private static boolean matches(@NotNull String name, @NotNull CharSequence input, int start, int end) {
+        if (name.length() != end - start) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (fold(name.charAt(i)) != fold(input.charAt(start + i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(@NotNull CharSequence input, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + fold(input.charAt(i));
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Folds the case of a character, the same way {@link String#equalsIgnoreCase(String)} compares characters.
+     */
+    private static char fold(char c) {
+        if (c < 128) {
+            return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.javacord.api.entity.server.Server;
+import org.javacord.api.interaction.SlashCommandOptionChoice;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches the choices of autocomplete handlers per command, option, server and typed prefix (ignoring case).
+ * <p>
+ * If the choices for a prefix aren't cached, but those for a shorter prefix are, and weren't cut off at
+ * {@link SortedCompletionProvider#MAX_CHOICES}, the cached choices are filtered by name instead of asking the handler
+ * again. This assumes the handler only suggests choices whose names start with the typed value, so only options whose
+ * handlers match by prefix should be cached. Options are cached if they are marked with
+ * {@code @Flags("autocomplete,autocompletecache")}.
+ *
+ * @since 0.5.1
+ * @see JavacordOptions#autocompleteCache(long, long, TimeUnit)
+ */
+public class SlashAutocompleteCache {
+
+    private final Cache<Key, Entry> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder reuses = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a new autocomplete cache.
+     *
+     * @param maximumSize the maximum amount of cached prefixes.
+     * @param expireAfter the time after which cached choices expire.
+     * @param unit the unit of {@code expireAfter}.
+     */
+    public SlashAutocompleteCache(long maximumSize, long expireAfter, @NotNull TimeUnit unit) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfter, unit)
+                .build();
+    }
+
+    /**
+     * Gets the choices for an autocomplete request, from the cache if possible and from the handler otherwise.
+     *
+     * @param context the context of the request.
+     * @param handler the handler of the option.
+     *
+     * @return the choices to suggest.
+     */
+    @NotNull
+    List<SlashCommandOptionChoice> get(@NotNull SlashAutocompleteContext context, @NotNull SlashAutocompleteHandler handler) {
+        long serverId = context.getServer().map(Server::getId).orElse(0L);
+        String prefix = SortedCompletionProvider.normalize(context.getInput());
+        Key key = new Key(context.getCommandPath(), context.getOptionName(), serverId, prefix);
+
+        Entry entry = cache.getIfPresent(key);
+        if (entry != null) {
+            hits.increment();
+            return entry.choices;
+        }
+
+        // Look for a shorter prefix whose choices can be narrowed down
+        for (int length = prefix.length() - 1; length >= 0; length--) {
+            Entry shorter = cache.getIfPresent(new Key(key.commandPath, key.optionName, serverId, prefix.substring(0, length)));
+            if (shorter == null) {
+                continue;
+            }
+            if (!shorter.complete) {
+                // Even shorter prefixes were cut off as well
+                break;
+            }
+            List<SlashCommandOptionChoice> choices = new ArrayList<>();
+            for (SlashCommandOptionChoice choice : shorter.choices) {
+                if (SortedCompletionProvider.normalize(choice.getName()).startsWith(prefix)) {
+                    choices.add(choice);
+                }
+            }
+            choices = Collections.unmodifiableList(choices);
+            cache.put(key, new Entry(choices, true));
+            reuses.increment();
+            return choices;
+        }
+
+        misses.increment();
+        List<SlashCommandOptionChoice> choices = handler.complete(context);
+        boolean complete = choices.size() < SortedCompletionProvider.MAX_CHOICES;
+        if (!complete) {
+            choices = choices.subList(0, SortedCompletionProvider.MAX_CHOICES);
+        }
+        choices = Collections.unmodifiableList(new ArrayList<>(choices));
+        cache.put(key, new Entry(choices, complete));
+        return choices;
+    }
+
+    /**
+     * Invalidates all cached choices.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Gets the amount of times choices were served from the cache for the exact prefix.
+     *
+     * @return the hit count.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the amount of times choices were served by narrowing down the cached choices of a shorter prefix.
+     *
+     * @return the reuse count.
+     */
+    public long getReuseCount() {
+        return reuses.sum();
+    }
+
+    /**
+     * Gets the amount of times choices had to be requested from the handler.
+     *
+     * @return the miss count.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the amount of prefixes that currently have cached choices.
+     *
+     * @return the amount of cached prefixes.
+     */
+    public long getSize() {
+        return cache.size();
+    }
+
+    private static final class Key {
+
+        private final String commandPath;
+        private final String optionName;
+        private final long serverId;
+        private final String prefix;
+
+        private Key(@NotNull String commandPath, @NotNull String optionName, long serverId, @NotNull String prefix) {
+            this.commandPath = commandPath;
+            this.optionName = optionName;
+            this.serverId = serverId;
+            this.prefix = prefix;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return serverId == other.serverId
+                    && prefix.equals(other.prefix)
+                    && optionName.equals(other.optionName)
+                    && commandPath.equals(other.commandPath);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = commandPath.hashCode();
+            result = 31 * result + optionName.hashCode();
+            result = 31 * result + Long.hashCode(serverId);
+            return 31 * result + prefix.hashCode();
+        }
+    }
+
+    private static final class Entry {
+
+        private final List<SlashCommandOptionChoice> choices;
+        // Whether the choices weren't cut off, so they contain every match for the prefix
+        private final boolean complete;
+
+        private Entry(@NotNull List<SlashCommandOptionChoice> choices, boolean complete) {
+            this.choices = choices;
+            this.complete = complete;
+        }
+    }
+}
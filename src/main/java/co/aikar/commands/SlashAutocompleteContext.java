@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands;
+
+import org.javacord.api.entity.server.Server;
+import org.javacord.api.entity.user.User;
+import org.javacord.api.interaction.AutocompleteInteraction;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Optional;
+
+/**
+ * The context of an autocomplete request for a slash command option.
+ *
+ * @since 0.5.1
+ * @see SlashAutocompleteHandler
+ */
+public class SlashAutocompleteContext {
+
+    private final SlashCommandManager manager;
+    private final AutocompleteInteraction interaction;
+    private final String commandPath;
+    private final String optionName;
+    private final String input;
+
+    SlashAutocompleteContext(@NotNull SlashCommandManager manager, @NotNull AutocompleteInteraction interaction, @NotNull String commandPath, @NotNull String optionName, @NotNull String input) {
+        this.manager = manager;
+        this.interaction = interaction;
+        this.commandPath = commandPath;
+        this.optionName = optionName;
+        this.input = input;
+    }
+
+    /**
+     * Gets the manager that received the request.
+     *
+     * @return the manager.
+     */
+    @NotNull
+    public SlashCommandManager getManager() {
+        return manager;
+    }
+
+    /**
+     * Gets the {@link AutocompleteInteraction} of the request.
+     *
+     * @return the interaction.
+     */
+    @NotNull
+    public AutocompleteInteraction getInteraction() {
+        return interaction;
+    }
+
+    /**
+     * Gets the full name of the command the option belongs to, including its subcommand group and subcommand,
+     * separated by spaces.
+     *
+     * @return the command path.
+     */
+    @NotNull
+    public String getCommandPath() {
+        return commandPath;
+    }
+
+    /**
+     * Gets the name of the option that is being completed.
+     *
+     * @return the option name.
+     */
+    @NotNull
+    public String getOptionName() {
+        return optionName;
+    }
+
+    /**
+     * Gets the value the user has typed so far.
+     *
+     * @return the typed value, or an empty string if nothing has been typed yet.
+     */
+    @NotNull
+    public String getInput() {
+        return input;
+    }
+
+    /**
+     * Gets the user that is typing.
+     *
+     * @return the user.
+     */
+    @NotNull
+    public User getUser() {
+        return interaction.getUser();
+    }
+
+    /**
+     * Gets the server the command is being typed in.
+     *
+     * @return the server, or an empty {@code Optional} if the command is typed in a private channel.
+     */
+    @NotNull
+    public Optional<Server> getServer() {
+        return interaction.getServer();
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands;
+
+import org.javacord.api.interaction.SlashCommandOptionChoice;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Answers autocomplete requests for a slash command option.
+ *
+ * @since 0.5.1
+ * @see SlashCommandManager#registerAutocomplete(String, String, SlashAutocompleteHandler)
+ * @see SortedCompletionProvider
+ */
+@FunctionalInterface
+public interface SlashAutocompleteHandler {
+
+    /**
+     * Gets the choices to suggest for the value the user is typing. Only the first 25 choices are sent to Discord.
+     *
+     * @param context the context of the autocomplete request.
+     *
+     * @return the choices to suggest.
+     */
+    @NotNull
+    List<SlashCommandOptionChoice> complete(@NotNull SlashAutocompleteContext context);
+}
@@ -22,13 +22,13 @@ import co.aikar.commands.javacord.annotation.Issuer;
 import co.aikar.commands.javacord.context.Member;
 import co.aikar.commands.javacord.context.UnicodeEmoji;
 import co.aikar.commands.javacord.exception.JavacordInvalidCommandArgument;
+import co.aikar.commands.javacord.util.MentionParser;
 import co.aikar.commands.javacord.util.StringUtils;
 import org.javacord.api.entity.channel.*;
 import org.javacord.api.entity.emoji.Emoji;
 import org.javacord.api.entity.emoji.KnownCustomEmoji;
 import org.javacord.api.entity.permission.Role;
 import org.javacord.api.entity.user.User;
-import org.javacord.api.util.DiscordRegexPattern;
 import org.jetbrains.annotations.NotNull;
 
 import java.math.BigDecimal;
@@ -261,8 +261,8 @@ public class SlashCommandContexts extends JavacordCommandContexts<SlashCommandEv
             }
             String arg = c.getNextString(); // Test input before consuming
             Emoji emoji = null;
-            if (DiscordRegexPattern.CUSTOM_EMOJI.matcher(arg).matches()) {
-                String id = arg.replaceAll("[^0-9]", ""); // Extract non-negative integers to retrieve ID
+            long id = MentionParser.parseCustomEmoji(arg);
+            if (id != MentionParser.NONE) {
                 emoji = api.getCustomEmojiById(id).orElse(null);
             } else {
                 if (UnicodeEmoji.isUnicodeEmoji(arg)) {
@@ -292,8 +292,8 @@ public class SlashCommandContexts extends JavacordCommandContexts<SlashCommandEv
             }
             String arg = c.getNextString(); // Test input before consuming
             KnownCustomEmoji emoji = null;
-            if (DiscordRegexPattern.CUSTOM_EMOJI.matcher(arg).matches()) {
-                String id = arg.replaceAll("[^0-9]", ""); // Extract non-negative integers to retrieve ID
+            long id = MentionParser.parseCustomEmoji(arg);
+            if (id != MentionParser.NONE) {
                 emoji = api.getCustomEmojiById(id).orElse(null);
             } else {
                 Collection<KnownCustomEmoji> emojis = api.getCustomEmojisByName(arg);
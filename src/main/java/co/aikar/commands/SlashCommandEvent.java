@@ -16,14 +16,24 @@
 
 package co.aikar.commands;
 
+import org.javacord.api.entity.channel.TextChannel;
 import org.javacord.api.entity.message.embed.EmbedBuilder;
+import org.javacord.api.entity.server.Server;
+import org.javacord.api.entity.user.User;
 import org.javacord.api.event.interaction.SlashCommandCreateEvent;
 import org.javacord.api.interaction.SlashCommandInteraction;
 import org.javacord.api.interaction.callback.InteractionFollowupMessageBuilder;
 import org.javacord.api.interaction.callback.InteractionImmediateResponseBuilder;
+import org.javacord.api.interaction.callback.InteractionOriginalResponseUpdater;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
 
 /**
  * Represents a command event that was triggered by a slash command.
@@ -32,17 +42,46 @@ import java.util.List;
  * @see JavacordCommandEvent
  * @see MessageCommandEvent
  */
-public class SlashCommandEvent extends JavacordCommandEvent {
+public class SlashCommandEvent extends LazyJavacordCommandEvent {
+
+    private static final int PENDING = 0;
+    private static final int RESPONDED = 1;
+    private static final int DEFERRED = 2;
+    private static final int DEFERRED_UPDATED = 3;
 
     private final SlashCommandCreateEvent event;
+    // Response state, only accessed while holding the lock of this event
+    private int state = PENDING;
+    // The last response that was sent, later responses are sent once it has completed
+    private CompletableFuture<?> lastResponse;
+    private CompletableFuture<InteractionOriginalResponseUpdater> deferredResponse;
+    private ScheduledFuture<?> deferralTimer;
 
-    @SuppressWarnings("OptionalGetWithoutIsPresent")
     public SlashCommandEvent(@NotNull SlashCommandManager manager, @NotNull SlashCommandCreateEvent event) {
-        super(manager, event.getInteraction().getUser(), event.getInteraction().getServer().orElse(null), event.getInteraction().getChannel().get());
+        super(manager);
 
         this.event = event;
     }
 
+    @Override
+    @NotNull
+    protected User resolveUser() {
+        return event.getInteraction().getUser();
+    }
+
+    @Override
+    @NotNull
+    protected Optional<Server> resolveServer() {
+        return event.getInteraction().getServer();
+    }
+
+    @Override
+    @NotNull
+    @SuppressWarnings("OptionalGetWithoutIsPresent")
+    protected TextChannel resolveChannel() {
+        return event.getInteraction().getChannel().get();
+    }
+
     @Override
     @NotNull
     public SlashCommandManager getManager() {
@@ -57,7 +96,7 @@ public class SlashCommandEvent extends JavacordCommandEvent {
 
     @Override
     public void sendMessageInternal(String message) {
-        newImmediateResponse().setContent(message).respond();
+        sendResponse(message, Collections.emptyList());
     }
 
     /**
@@ -72,21 +111,40 @@ public class SlashCommandEvent extends JavacordCommandEvent {
 
     /**
      * Creates and returns a new {@link InteractionImmediateResponseBuilder}.
+     * <p>
+     * The interaction is considered responded to once the builder has been created, so it won't be deferred
+     * automatically anymore, and later calls to the {@code respond} methods are sent as followups. An immediate response
+     * can't be sent once the response has been deferred, use the {@code respond} methods instead.
      *
      * @return the new {@link InteractionImmediateResponseBuilder}.
+     *
+     * @throws IllegalStateException if the response to the interaction has been deferred.
      */
     @NotNull
-    public InteractionImmediateResponseBuilder newImmediateResponse() {
+    public synchronized InteractionImmediateResponseBuilder newImmediateResponse() {
+        if (state == DEFERRED || state == DEFERRED_UPDATED) {
+            throw new IllegalStateException("The response to this interaction has been deferred, use respond() instead.");
+        }
+        if (state == PENDING) {
+            cancelDeferralTimer();
+            state = RESPONDED;
+            lastResponse = CompletableFuture.completedFuture(null);
+        }
         return getInteraction().createImmediateResponder();
     }
 
     /**
      * Creates and returns a new {@link InteractionFollowupMessageBuilder}.
+     * <p>
+     * If the response to the interaction has been deferred, the first followup message replaces the deferred response.
      *
      * @return the new {@link InteractionFollowupMessageBuilder}.
      */
     @NotNull
-    public InteractionFollowupMessageBuilder newFollowupMessage() {
+    public synchronized InteractionFollowupMessageBuilder newFollowupMessage() {
+        if (state == DEFERRED) {
+            state = DEFERRED_UPDATED;
+        }
         return getInteraction().createFollowupMessageBuilder();
     }
 
@@ -95,9 +153,98 @@ public class SlashCommandEvent extends JavacordCommandEvent {
      * anything else. This can be useful for commands that take a long time to process, or when you plan on handling
      * the command without using Discord's built-in interaction response system (e.g. by using {@link #reply(String)}
      * instead).
+     * <p>
+     * The interaction is acknowledged by deferring its response, so later calls to the {@code respond} methods edit
+     * the deferred response.
      */
     public void confirm() {
-        newImmediateResponse().respond();
+        defer(false);
+    }
+
+    /**
+     * Gets whether the response to the interaction has been deferred, either by {@link #confirm()} or because the
+     * command exceeded its response budget.
+     *
+     * @return {@code true} if the response has been deferred, {@code false} otherwise.
+     */
+    public synchronized boolean isDeferred() {
+        return state == DEFERRED || state == DEFERRED_UPDATED;
+    }
+
+    /**
+     * Defers the response to the interaction, unless it has been responded to already.
+     *
+     * @param ephemeral whether the deferred response is only visible to the issuer.
+     *
+     * @return {@code true} if the response was deferred, {@code false} if it had been responded to or deferred already.
+     */
+    synchronized boolean defer(boolean ephemeral) {
+        if (state != PENDING) {
+            return false;
+        }
+        cancelDeferralTimer();
+        state = DEFERRED;
+        deferredResponse = getInteraction().respondLater(ephemeral);
+        lastResponse = deferredResponse;
+        return true;
+    }
+
+    /**
+     * Sets the timer that defers the response once the command's response budget has been exceeded.
+     *
+     * @param deferralTimer the scheduled deferral.
+     */
+    synchronized void setDeferralTimer(@NotNull ScheduledFuture<?> deferralTimer) {
+        if (state == PENDING) {
+            this.deferralTimer = deferralTimer;
+        } else {
+            deferralTimer.cancel(false);
+        }
+    }
+
+    private void cancelDeferralTimer() {
+        if (deferralTimer != null) {
+            deferralTimer.cancel(false);
+            deferralTimer = null;
+        }
+    }
+
+    /**
+     * Sends a response to the interaction. The first response is sent as an immediate response, or as an edit of the
+     * deferred response if the response has been deferred. All later responses are sent as followup messages.
+     *
+     * @param message the message to respond with, or {@code null} for none.
+     * @param embeds the embeds to respond with.
+     */
+    private synchronized void sendResponse(@Nullable String message, @NotNull List<EmbedBuilder> embeds) {
+        switch (state) {
+            case PENDING:
+                cancelDeferralTimer();
+                state = RESPONDED;
+                InteractionImmediateResponseBuilder response = getInteraction().createImmediateResponder();
+                if (message != null) {
+                    response.setContent(message);
+                }
+                lastResponse = response.addEmbeds(embeds).respond();
+                return;
+            case DEFERRED:
+                state = DEFERRED_UPDATED;
+                lastResponse = deferredResponse.thenCompose(updater -> {
+                    if (message != null) {
+                        updater.setContent(message);
+                    }
+                    return updater.addEmbeds(embeds).update();
+                });
+                return;
+            default:
+                InteractionFollowupMessageBuilder followup = getInteraction().createFollowupMessageBuilder();
+                if (message != null) {
+                    followup.setContent(message);
+                }
+                followup.addEmbeds(embeds);
+                // Followups can only be sent once the interaction has been responded to
+                lastResponse = lastResponse.handle((ignored, throwable) -> null).thenCompose(ignored -> followup.send());
+        }
     }
 
     /**
@@ -106,7 +253,7 @@ public class SlashCommandEvent extends JavacordCommandEvent {
      * @param message the message to respond with.
      */
     public void respond(@NotNull String message) {
-        newImmediateResponse().setContent(message).respond();
+        sendResponse(message, Collections.emptyList());
     }
 
     /**
@@ -115,7 +262,7 @@ public class SlashCommandEvent extends JavacordCommandEvent {
      * @param embed the embed to respond with.
      */
     public void respond(@NotNull EmbedBuilder embed) {
-        newImmediateResponse().addEmbed(embed).respond();
+        sendResponse(null, Collections.singletonList(embed));
     }
 
     /**
@@ -124,7 +271,7 @@ public class SlashCommandEvent extends JavacordCommandEvent {
      * @param embeds the embeds to respond with.
      */
     public void respond(@NotNull EmbedBuilder... embeds) {
-        newImmediateResponse().addEmbeds(embeds).respond();
+        sendResponse(null, Arrays.asList(embeds));
     }
 
     /**
@@ -133,7 +280,7 @@ public class SlashCommandEvent extends JavacordCommandEvent {
      * @param embeds a list of embeds to respond with.
      */
     public void respond(@NotNull List<EmbedBuilder> embeds) {
-        newImmediateResponse().addEmbeds(embeds).respond();
+        sendResponse(null, embeds);
     }
 
     /**
@@ -143,7 +290,7 @@ public class SlashCommandEvent extends JavacordCommandEvent {
      * @param embed the embed to respond with.
      */
     public void respond(@NotNull String message, @NotNull EmbedBuilder embed) {
-        newImmediateResponse().setContent(message).addEmbed(embed).respond();
+        sendResponse(message, Collections.singletonList(embed));
     }
 
     /**
@@ -153,7 +300,7 @@ public class SlashCommandEvent extends JavacordCommandEvent {
      * @param embeds the embeds to respond with.
      */
     public void respond(@NotNull String message, @NotNull EmbedBuilder... embeds) {
-        newImmediateResponse().setContent(message).addEmbeds(embeds).respond();
+        sendResponse(message, Arrays.asList(embeds));
     }
 
     /**
@@ -163,7 +310,7 @@ public class SlashCommandEvent extends JavacordCommandEvent {
      * @param embeds a list of embeds to respond with.
      */
     public void respond(@NotNull String message, @NotNull List<EmbedBuilder> embeds) {
-        newImmediateResponse().setContent(message).addEmbeds(embeds).respond();
+        sendResponse(message, embeds);
     }
 
     /**
@@ -26,7 +26,7 @@ import org.javacord.api.entity.user.User;
 import org.javacord.api.interaction.SlashCommandInteractionOption;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
 import java.util.List;
 
 /**
@@ -35,30 +35,46 @@ import java.util.List;
 @SuppressWarnings("OptionalGetWithoutIsPresent")
 public class SlashCommandExecutionContext extends JavacordCommandExecutionContext<SlashCommandEvent, SlashCommandExecutionContext> {
 
-    private final List<SlashCommandInteractionOption> args;
+    private final SlashCommandOptionView options;
+    private final int index;
+    private List<SlashCommandInteractionOption> args;
 
-    SlashCommandExecutionContext(@NotNull SlashRegisteredCommand cmd, @NotNull CommandParameter parameter, @NotNull SlashCommandEvent event, @NotNull List<SlashCommandInteractionOption> args) {
+    SlashCommandExecutionContext(@NotNull SlashRegisteredCommand cmd, @NotNull CommandParameter parameter, @NotNull SlashCommandEvent event, @NotNull SlashCommandOptionView options, int index) {
         super(cmd, parameter, event, null, 0, null);
 
-        this.args = new ArrayList<>(args);
+        this.options = options;
+        this.index = index;
     }
 
     /**
-     * Gets the list of arguments.
+     * Gets the list of arguments of the parameter being resolved. This contains the option matching the parameter's
+     * name, unless it was not given or has already been consumed.
      *
      * @return the list of arguments.
      */
     public List<SlashCommandInteractionOption> getArguments() {
+        if (args == null) {
+            args = new ArgumentList();
+        }
         return args;
     }
 
+    /**
+     * Checks whether there is an argument left for the parameter being resolved.
+     *
+     * @return {@code true} if there is an argument left, {@code false} otherwise.
+     */
+    public boolean hasNextArg() {
+        return options.has(index);
+    }
+
     /**
      * Removes and returns the next argument from the list of arguments.
      *
      * @return the next argument, or {@code null} if there are no more arguments.
      */
     public SlashCommandInteractionOption popNextArg() {
-        return !args.isEmpty() ? args.remove(0) : null;
+        return options.consume(index);
     }
 
     /**
@@ -67,7 +83,7 @@ public class SlashCommandExecutionContext extends JavacordCommandExecutionContex
      * @return the last argument, or {@code null} if there are no more arguments.
      */
     public SlashCommandInteractionOption popFinalArg() {
-        return !args.isEmpty() ? args.remove(args.size() - 1) : null;
+        return options.consume(index);
     }
 
     /**
@@ -76,7 +92,7 @@ public class SlashCommandExecutionContext extends JavacordCommandExecutionContex
      * @return the next argument, or {@code null} if there are no more arguments.
      */
     public SlashCommandInteractionOption getNextArg() {
-        return !args.isEmpty() ? args.get(0) : null;
+        return options.get(index);
     }
 
     /**
@@ -85,7 +101,7 @@ public class SlashCommandExecutionContext extends JavacordCommandExecutionContex
      * @return the last argument, or {@code null} if there are no more arguments.
      */
     public SlashCommandInteractionOption getFinalArg() {
-        return !args.isEmpty() ? args.get(args.size() - 1) : null;
+        return options.get(index);
     }
 
     /**
@@ -118,7 +134,7 @@ public class SlashCommandExecutionContext extends JavacordCommandExecutionContex
      * @return {@code true} if the next argument is a string, {@code false} otherwise.
      */
     public boolean isNextString() {
-        return !args.isEmpty() && getNextArg().getStringValue().isPresent();
+        return hasNextArg() && getNextArg().getStringValue().isPresent();
     }
 
     /**
@@ -151,7 +167,7 @@ public class SlashCommandExecutionContext extends JavacordCommandExecutionContex
      * @return {@code true} if the next argument is a {@code boolean}, {@code false} otherwise.
      */
     public boolean isNextBoolean() {
-        return !args.isEmpty() && getNextArg().getBooleanValue().isPresent();
+        return hasNextArg() && getNextArg().getBooleanValue().isPresent();
     }
 
     /**
@@ -184,7 +200,7 @@ public class SlashCommandExecutionContext extends JavacordCommandExecutionContex
      * @return {@code true} if the next argument is a {@code long}, {@code false} otherwise.
      */
     public boolean isNextLong() {
-        return !args.isEmpty() && getNextArg().getLongValue().isPresent();
+        return hasNextArg() && getNextArg().getLongValue().isPresent();
     }
 
     /**
@@ -217,7 +233,7 @@ public class SlashCommandExecutionContext extends JavacordCommandExecutionContex
      * @return {@code true} if the next argument is a {@code double}, {@code false} otherwise.
      */
     public boolean isNextDecimal() {
-        return !args.isEmpty() && getNextArg().getDecimalValue().isPresent();
+        return hasNextArg() && getNextArg().getDecimalValue().isPresent();
     }
 
     /**
@@ -250,7 +266,7 @@ public class SlashCommandExecutionContext extends JavacordCommandExecutionContex
      * @return {@code true} if the next argument is a user, {@code false} otherwise.
      */
     public boolean isNextUser() {
-        return !args.isEmpty() && getNextArg().getUserValue().isPresent();
+        return hasNextArg() && getNextArg().getUserValue().isPresent();
     }
 
     /**
@@ -283,7 +299,7 @@ public class SlashCommandExecutionContext extends JavacordCommandExecutionContex
      * @return {@code true} if the next argument is a channel, {@code false} otherwise.`
      */
     public boolean isNextChannel() {
-        return !args.isEmpty() && getNextArg().getChannelValue().isPresent();
+        return hasNextArg() && getNextArg().getChannelValue().isPresent();
     }
 
     /**
@@ -316,7 +332,7 @@ public class SlashCommandExecutionContext extends JavacordCommandExecutionContex
      * @return {@code true} if the next argument is a role, {@code false} otherwise.`
      */
     public boolean isNextRole() {
-        return !args.isEmpty() && getNextArg().getRoleValue().isPresent();
+        return hasNextArg() && getNextArg().getRoleValue().isPresent();
     }
 
     /**
@@ -349,7 +365,7 @@ public class SlashCommandExecutionContext extends JavacordCommandExecutionContex
      * @return {@code true} if the next argument is a mentionable, {@code false} otherwise.`
      */
     public boolean isNextMentionable() {
-        return getNextArg().getMentionableValue().isPresent();
+        return hasNextArg() && getNextArg().getMentionableValue().isPresent();
     }
 
     /**
@@ -382,7 +398,7 @@ public class SlashCommandExecutionContext extends JavacordCommandExecutionContex
      * @return {@code true} if the next argument is an attachment, {@code false} otherwise.`
      */
     public boolean isNextAttachment() {
-        return getNextArg().getAttachmentValue().isPresent();
+        return hasNextArg() && getNextArg().getAttachmentValue().isPresent();
     }
 
     /**
@@ -424,4 +440,30 @@ public class SlashCommandExecutionContext extends JavacordCommandExecutionContex
     public String getLastArg() {
         throw new UnsupportedOperationException("getLastArg() is not supported for slash commands. Use getFinalArg() instead.");
     }
+
+    /**
+     * A list view of the argument of the parameter being resolved.
+     */
+    private final class ArgumentList extends AbstractList<SlashCommandInteractionOption> {
+
+        @Override
+        public SlashCommandInteractionOption get(int i) {
+            if (i != 0 || !options.has(index)) {
+                throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size());
+            }
+            return options.get(index);
+        }
+
+        @Override
+        public SlashCommandInteractionOption remove(int i) {
+            SlashCommandInteractionOption option = get(i);
+            options.consume(index);
+            return option;
+        }
+
+        @Override
+        public int size() {
+            return options.has(index) ? 1 : 0;
+        }
+    }
 }
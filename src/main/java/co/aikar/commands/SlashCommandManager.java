@@ -21,17 +21,44 @@ import co.aikar.commands.annotation.Default;
 import co.aikar.commands.annotation.Description;
 import co.aikar.commands.annotation.Subcommand;
 import co.aikar.commands.javacord.exception.SlashCommandRegistryException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.javacord.api.DiscordApi;
+import org.javacord.api.entity.channel.TextChannel;
+import org.javacord.api.entity.server.Server;
+import org.javacord.api.event.interaction.AutocompleteCreateEvent;
 import org.javacord.api.event.interaction.InteractionCreateEvent;
 import org.javacord.api.event.interaction.SlashCommandCreateEvent;
+import org.javacord.api.exception.RatelimitException;
+import org.javacord.api.interaction.ApplicationCommand;
+import org.javacord.api.interaction.AutocompleteInteraction;
+import org.javacord.api.interaction.SlashCommand;
+import org.javacord.api.interaction.SlashCommandBuilder;
 import org.javacord.api.interaction.SlashCommandInteraction;
 import org.javacord.api.interaction.SlashCommandInteractionOption;
+import org.javacord.api.interaction.SlashCommandOptionChoice;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 /**
  * A {@link CommandManager} implementation for Javacord for slash commands.
@@ -46,7 +73,42 @@ public class SlashCommandManager
                     SlashCommandExecutionContext,
                     SlashCommandConditionContext>
 {
+    // Delay before pending commands are registered, restarted by every registration, so commands registered in quick
+    // succession end up in one batch
+    private static final long REGISTRATION_DELAY_MILLIS = 500L;
+    // Pending commands are registered at most this long after the first of them, even if registrations keep coming in
+    private static final long MAX_REGISTRATION_DELAY_MILLIS = 5000L;
+    // Retries of a rate limited registration request, with the backoff doubling after each attempt
+    private static final int MAX_REGISTRATION_ATTEMPTS = 5;
+    private static final long INITIAL_BACKOFF_MILLIS = 1000L;
+    // Added to the retry_after given by Discord, so scopes that were limited together don't retry together
+    private static final long RETRY_JITTER_MILLIS = 250L;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
     protected final ConcurrentHashMap<String, SlashCommandRegistry> commandRegistry;
+    // Root nodes per scope (0 for global commands, otherwise the server ID), each scope is overwritten as a whole
+    private final Map<Long, Map<String, PendingCommand>> scopes = new HashMap<>();
+    private final Set<Long> changedScopes = new HashSet<>();
+    private ScheduledFuture<?> scheduledRegistration;
+    // When the first of the pending commands was registered, as given by System#nanoTime
+    private long pendingSince;
+    // Schedules registrations and handles their results, so neither Javacord's nor the common pool is blocked by them
+    private final ScheduledExecutorService registrationExecutor;
+    private final int registrationConcurrency;
+    private final List<SlashRegistrationListener> registrationListeners = new CopyOnWriteArrayList<>();
+    // Server IDs by name, rebuilt when needed after the bot joined, left or renamed a server
+    private volatile Map<String, Long> serverNameIndex;
+    // Routes by full command name, replaced as a whole when a command is registered
+    private volatile Map<String, SlashRoute> routes = Collections.emptyMap();
+    @Nullable
+    private final SlashCommandSnapshot snapshot;
+    // Default time a command may take to respond before its response is deferred, or 0 to never defer
+    private final long responseBudgetNanos;
+    private final LongAdder timedInteractions = new LongAdder();
+    private final LongAdder deferredInteractions = new LongAdder();
+    // Autocomplete handlers by command path and option name
+    private final ConcurrentHashMap<String, SlashAutocompleteHandler> autocompleteHandlers = new ConcurrentHashMap<>();
+    private final SlashAutocompleteCache autocompleteCache;
 
     public SlashCommandManager(@NotNull DiscordApi api) {
         this(api, new JavacordOptions());
@@ -56,11 +118,27 @@ public class SlashCommandManager
         super(api, options);
 
         this.contexts = new SlashCommandContexts(this);
-        this.configProvider = options.slashConfigProvider;
+        this.configProvider = wrapConfigProvider(options.slashConfigProvider);
         this.commandRegistry = new ConcurrentHashMap<>();
+        this.registrationExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("acf-javacord-slash-registration-%d")
+                .setDaemon(true)
+                .build());
+        this.registrationConcurrency = options.registrationConcurrency;
+        this.snapshot = options.slashCommandSnapshot != null
+                ? SlashCommandSnapshot.load(this, options.slashCommandSnapshot, api.getClientId())
+                : null;
+        this.responseBudgetNanos = options.responseBudgetNanos;
+        this.autocompleteCache = new SlashAutocompleteCache(options.autocompleteCacheSize, options.autocompleteCacheExpiry, options.autocompleteCacheExpiryUnit);
 
         // Register slash command listener
         api.addSlashCommandCreateListener(new JavacordSlashCommandListener(this));
+        api.addAutocompleteCreateListener(new JavacordAutocompleteListener(this));
+
+        // Drop the server name index when server names may have changed
+        api.addServerJoinListener(event -> serverNameIndex = null);
+        api.addServerLeaveListener(event -> serverNameIndex = null);
+        api.addServerChangeNameListener(event -> serverNameIndex = null);
     }
 
     @Override
@@ -68,13 +146,11 @@ public class SlashCommandManager
         throw new UnsupportedOperationException("Use registerSlashCommand() instead, or use MessageCommandManager to register regular commands.");
     }
 
-    @Override
-    public boolean hasRegisteredCommands() {
-        return !commands.isEmpty();
-    }
-
     @Override
     public SlashCommandEvent getCommandIssuer(Object issuer) {
+        if (issuer instanceof SlashCommandEvent) {
+            return (SlashCommandEvent) issuer;
+        }
         if (!(issuer instanceof SlashCommandCreateEvent)) {
             throw new IllegalArgumentException("Issuer must be a InteractionCreateEvent");
         }
@@ -91,11 +167,6 @@ public class SlashCommandManager
         return null;
     }
 
-    @Override
-    public Collection<RootCommand> getRegisteredRootCommands() {
-        return Collections.unmodifiableCollection(commands.values());
-    }
-
     @Override
     public SlashCommandExecutionContext createCommandContext(RegisteredCommand command, CommandParameter parameter, CommandIssuer sender, List<String> args, int i, Map<String, Object> passedArgs) {
         throw new UnsupportedOperationException();
@@ -124,31 +195,401 @@ public class SlashCommandManager
 
     @SuppressWarnings("rawtypes")
     public SlashCommandExecutionContext createCommandContext(@NotNull SlashRegisteredCommand command, @NotNull CommandParameter parameter, @NotNull SlashCommandEvent event, @NotNull List<SlashCommandInteractionOption> args) {
-        return new SlashCommandExecutionContext(command, parameter, event, args);
+        int index = Arrays.asList(command.parameters).indexOf(parameter);
+        SlashCommandInteractionOption option = null;
+        for (SlashCommandInteractionOption arg : args) {
+            if (arg.getName().equals(parameter.getName())) {
+                option = arg;
+                break;
+            }
+        }
+        return createCommandContext(command, parameter, event, new SlashCommandOptionView(command.parameters.length, index, option), index);
+    }
+
+    @SuppressWarnings("rawtypes")
+    SlashCommandExecutionContext createCommandContext(@NotNull SlashRegisteredCommand command, @NotNull CommandParameter parameter, @NotNull SlashCommandEvent event, @NotNull SlashCommandOptionView options, int index) {
+        return new SlashCommandExecutionContext(command, parameter, event, options, index);
     }
 
     /**
      * Registers a {@link BaseCommand} as a slash command.
+     * <p>
+     * The command isn't sent to Discord right away. Commands registered in quick succession are collected and sent in a
+     * single bulk overwrite per scope (globally, and per server for {@link co.aikar.commands.javacord.annotation.ServerCommand server commands}),
+     * half a second after the last one was registered, or at most five seconds after the first one. Use
+     * {@link #registerPendingSlashCommands()} to send them immediately.
+     * <p>
+     * Note that a bulk overwrite replaces all of the application's commands in that scope, so commands that weren't
+     * registered through this manager are removed from Discord.
+     * <p>
+     * If a {@link JavacordOptions#slashCommandSnapshot(String) snapshot} is used, scopes in which no command has
+     * changed since the snapshot was written aren't sent to Discord at all.
      *
      * @param command the command to register.
      */
     public void registerSlashCommand(BaseCommand command) {
+        Preconditions.checkState(!registrationExecutor.isShutdown(), "The manager has been shut down.");
         super.registerCommand(command);
 
-        for (Map.Entry<String, RootCommand> entry : command.registeredCommands.entrySet()) {
-            String commandName = entry.getKey().toLowerCase(Locale.ENGLISH);
-            JavacordRootCommand rootCmd = (JavacordRootCommand) entry.getValue();
-            SlashCommandNode rootNode = new SlashCommandNode(rootCmd, command);
-            rootNode.register(this).thenAccept(registry -> {
-                commandRegistry.put(rootCmd.getCommandName(), registry);
-                if (!rootCmd.isRegistered) {
-                    rootCmd.isRegistered = true;
-                    commands.put(commandName, rootCmd);
+        synchronized (scopes) {
+            for (Map.Entry<String, RootCommand> entry : command.registeredCommands.entrySet()) {
+                JavacordRootCommand rootCmd = (JavacordRootCommand) entry.getValue();
+                SlashCommandNode rootNode = new SlashCommandNode(rootCmd, command);
+                JsonNode tree = snapshot != null ? SlashCommandSnapshot.toTree(rootNode) : null;
+                long scope = rootNode.getServerId();
+                scopes.computeIfAbsent(scope, k -> new LinkedHashMap<>())
+                        .put(rootNode.name, new PendingCommand(entry.getKey(), rootCmd, rootNode, tree));
+                changedScopes.add(scope);
+            }
+
+            long now = System.nanoTime();
+            if (scheduledRegistration == null) {
+                pendingSince = now;
+            } else {
+                scheduledRegistration.cancel(false);
+            }
+            long delay = Math.min(TimeUnit.MILLISECONDS.toNanos(REGISTRATION_DELAY_MILLIS),
+                    pendingSince + TimeUnit.MILLISECONDS.toNanos(MAX_REGISTRATION_DELAY_MILLIS) - now);
+            scheduledRegistration = registrationExecutor
+                    .schedule(this::registerPendingSlashCommands, Math.max(0L, delay), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Sends all slash commands that have been registered since the last time to Discord, using one bulk overwrite per
+     * changed scope. If a snapshot is used, only scopes that differ from the snapshot are sent, and a single changed
+     * command is sent on its own.
+     * <p>
+     * This method doesn't block. Global commands are registered first, after which the servers are registered with at
+     * most {@link JavacordOptions#registrationConcurrency(int) a few} at the same time. Requests that are rate limited
+     * by Discord are retried with an increasing backoff. The progress is reported to the
+     * {@link #addRegistrationListener(SlashRegistrationListener) registration listeners}.
+     *
+     * @return a {@link CompletableFuture} that completes when all commands have been registered.
+     */
+    @NotNull
+    public CompletableFuture<Void> registerPendingSlashCommands() {
+        Map<Long, List<PendingCommand>> batches = new TreeMap<>(); // Global commands (scope 0) first
+        synchronized (scopes) {
+            if (scheduledRegistration != null) {
+                scheduledRegistration.cancel(false);
+                scheduledRegistration = null;
+            }
+            for (long scope : changedScopes) {
+                batches.put(scope, new ArrayList<>(scopes.get(scope).values()));
+            }
+            changedScopes.clear();
+        }
+
+        return new RegistrationPlan(new ArrayList<>(batches.entrySet())).start(registrationConcurrency);
+    }
+
+    /**
+     * Adds a listener that receives the progress of slash command registrations.
+     *
+     * @param listener the listener.
+     */
+    public void addRegistrationListener(@NotNull SlashRegistrationListener listener) {
+        registrationListeners.add(listener);
+    }
+
+    /**
+     * Removes a registration listener.
+     *
+     * @param listener the listener.
+     */
+    public void removeRegistrationListener(@NotNull SlashRegistrationListener listener) {
+        registrationListeners.remove(listener);
+    }
+
+    /**
+     * Finds the ID of a server the bot is part of by its exact name. Servers are looked up in an index that is built
+     * once, and rebuilt after the bot joined, left or renamed a server.
+     *
+     * @param name the name of the server.
+     *
+     * @return the ID of the server, or {@code 0} if the bot isn't part of a server with that name.
+     */
+    long findServerIdByName(@NotNull String name) {
+        Map<String, Long> index = serverNameIndex;
+        if (index == null) {
+            index = new HashMap<>();
+            for (Server server : api.getServers()) {
+                index.putIfAbsent(server.getName(), server.getId());
+            }
+            serverNameIndex = index;
+        }
+        return index.getOrDefault(name, 0L);
+    }
+
+    /**
+     * Registers the commands of a scope, skipping the commands that are unchanged according to the snapshot.
+     *
+     * @param scope the ID of the server, or {@code 0} for global commands.
+     * @param commands all commands in the scope.
+     *
+     * @return a {@link CompletableFuture} that completes when the commands have been registered.
+     */
+    @NotNull
+    private CompletableFuture<Void> registerScope(long scope, @NotNull List<PendingCommand> commands) {
+        if (snapshot == null) {
+            return overwriteScope(scope, commands);
+        }
+
+        List<PendingCommand> changed = new ArrayList<>();
+        Set<String> removed = snapshot.getNames(scope);
+        for (PendingCommand command : commands) {
+            removed.remove(command.rootNode.name);
+            SlashCommandSnapshot.Entry entry = snapshot.get(scope, command.rootNode.name);
+            if (entry == null || entry.hash != command.rootNode.getHash()) {
+                changed.add(command);
+            } else {
+                // Discord keeps the ID of a command that is overwritten with the same name
+                onSlashCommandRegistered(scope, command, entry.id);
+            }
+        }
+
+        if (changed.isEmpty() && removed.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (changed.size() == 1 && removed.isEmpty()) {
+            return upsertCommand(scope, changed.get(0));
+        }
+        return overwriteScope(scope, commands);
+    }
+
+    /**
+     * Creates or updates a single command, leaving the other commands in its scope untouched.
+     *
+     * @param scope the ID of the server, or {@code 0} for global commands.
+     * @param command the command to create or update.
+     *
+     * @return a {@link CompletableFuture} that completes when the command has been registered.
+     */
+    @NotNull
+    private CompletableFuture<Void> upsertCommand(long scope, @NotNull PendingCommand command) {
+        SlashCommandBuilder builder = command.rootNode.toBuilder();
+        CompletableFuture<SlashCommand> future = withRetries(() -> scope == 0L
+                ? builder.createGlobal(api)
+                : builder.createForServer(api, scope));
+        return future.thenAccept(registered -> {
+            onSlashCommandRegistered(scope, command, registered.getId());
+            if (snapshot != null) {
+                snapshot.save();
+            }
+        }).whenComplete((ignored, throwable) -> {
+            if (throwable != null) {
+                log(LogLevel.ERROR, "Failed to register slash command '" + command.rootNode.name + "'.", throwable);
+            }
+        });
+    }
+
+    /**
+     * Overwrites all commands in a scope with the given commands.
+     *
+     * @param scope the ID of the server, or {@code 0} for global commands.
+     * @param commands all commands in the scope.
+     *
+     * @return a {@link CompletableFuture} that completes when the commands have been registered.
+     */
+    @NotNull
+    private CompletableFuture<Void> overwriteScope(long scope, @NotNull List<PendingCommand> commands) {
+        Set<SlashCommandBuilder> builders = new LinkedHashSet<>();
+        for (PendingCommand command : commands) {
+            builders.add(command.rootNode.toBuilder());
+        }
+
+        CompletableFuture<Set<ApplicationCommand>> future = withRetries(() -> scope == 0L
+                ? api.bulkOverwriteGlobalApplicationCommands(builders)
+                : api.bulkOverwriteServerApplicationCommands(scope, builders));
+        return future.thenAccept(registered -> {
+            Map<String, PendingCommand> byName = new HashMap<>();
+            for (PendingCommand command : commands) {
+                byName.put(command.rootNode.name, command);
+            }
+            for (ApplicationCommand applicationCommand : registered) {
+                PendingCommand command = byName.get(applicationCommand.getName());
+                if (command != null) {
+                    onSlashCommandRegistered(scope, command, applicationCommand.getId());
+                }
+            }
+            if (snapshot != null) {
+                snapshot.retain(scope, byName.keySet());
+                snapshot.save();
+            }
+        }).whenComplete((ignored, throwable) -> {
+            if (throwable != null) {
+                String target = scope == 0L ? "global slash commands" : "slash commands for server " + scope;
+                log(LogLevel.ERROR, "Failed to register " + target + ".", throwable);
+            }
+        });
+    }
+
+    /**
+     * Sends a registration request, retrying it if Discord rate limits it. Retries wait as long as Discord's
+     * {@code retry_after} asks, or with an exponential backoff if it isn't given. The returned future completes on the
+     * registration executor.
+     *
+     * @param request sends the request.
+     * @param <T> the type of the response.
+     *
+     * @return a {@link CompletableFuture} that completes with the response of the first successful attempt.
+     */
+    @NotNull
+    private <T> CompletableFuture<T> withRetries(@NotNull Supplier<CompletableFuture<T>> request) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        attempt(request, 0, result);
+        return result;
+    }
+
+    private <T> void attempt(@NotNull Supplier<CompletableFuture<T>> request, int attempt, @NotNull CompletableFuture<T> result) {
+        CompletableFuture<T> future;
+        try {
+            future = request.get();
+        } catch (Throwable thrown) {
+            result.completeExceptionally(thrown);
+            return;
+        }
+
+        future.whenCompleteAsync((value, throwable) -> {
+            if (throwable == null) {
+                result.complete(value);
+                return;
+            }
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+            if (!(cause instanceof RatelimitException) || attempt + 1 >= MAX_REGISTRATION_ATTEMPTS) {
+                result.completeExceptionally(cause);
+                return;
+            }
+
+            // Wait as long as Discord asks, or back off blindly if it didn't say
+            long retryAfter = getRetryAfterMillis((RatelimitException) cause);
+            long backoff = retryAfter >= 0L
+                    ? retryAfter + ThreadLocalRandom.current().nextLong(RETRY_JITTER_MILLIS)
+                    : (INITIAL_BACKOFF_MILLIS << attempt) + ThreadLocalRandom.current().nextLong(INITIAL_BACKOFF_MILLIS);
+            log(LogLevel.INFO, "Slash command registration was rate limited, retrying in " + backoff + " ms.");
+            try {
+                registrationExecutor.schedule(() -> attempt(request, attempt + 1, result), backoff, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException ex) {
+                result.completeExceptionally(cause);
+            }
+        }, this::executeRegistrationTask);
+    }
+
+    /**
+     * Runs a task on the registration executor, or on the calling thread if the executor has been shut down, so the
+     * results of requests that were still in flight are handled either way.
+     *
+     * @param task the task to run.
+     */
+    private void executeRegistrationTask(@NotNull Runnable task) {
+        try {
+            registrationExecutor.execute(task);
+        } catch (RejectedExecutionException ex) {
+            task.run();
+        }
+    }
+
+    /**
+     * Gets the time Discord asked to wait before retrying a rate limited request, from the {@code retry_after} field of
+     * the response.
+     *
+     * @param exception the exception of the rate limited request.
+     *
+     * @return the time to wait in milliseconds, or {@code -1} if the response doesn't say.
+     */
+    static long getRetryAfterMillis(@NotNull RatelimitException exception) {
+        Optional<String> body = exception.getResponse().flatMap(response -> response.getBody());
+        if (!body.isPresent()) {
+            return -1L;
+        }
+        try {
+            JsonNode retryAfter = MAPPER.readTree(body.get()).get("retry_after");
+            return retryAfter != null && retryAfter.isNumber() ? (long) Math.ceil(retryAfter.asDouble() * 1000.0D) : -1L;
+        } catch (IOException | RuntimeException ex) {
+            return -1L;
+        }
+    }
+
+    /**
+     * Shuts down the manager, stopping the registration of slash commands as well as the command executor. Requests
+     * that are in flight, including their retries, are still completed; commands that are pending but haven't been
+     * sent yet are discarded, call {@link #registerPendingSlashCommands()} first to send them.
+     *
+     * @param timeout the maximum time to wait.
+     * @param unit the unit of {@code timeout}.
+     *
+     * @return {@code true} if all registrations and commands finished, {@code false} if the timeout elapsed first.
+     *
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    @Override
+    public boolean shutdown(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (scopes) {
+            if (scheduledRegistration != null) {
+                scheduledRegistration.cancel(false);
+                scheduledRegistration = null;
+            }
+        }
+        registrationExecutor.shutdown();
+        boolean commandsFinished = super.shutdown(timeout, unit);
+        long remaining = Math.max(0L, deadline - System.nanoTime());
+        return registrationExecutor.awaitTermination(remaining, TimeUnit.NANOSECONDS) && commandsFinished;
+    }
+
+    /**
+     * Makes a slash command available for execution, once Discord has confirmed its registration.
+     *
+     * @param scope the ID of the server, or {@code 0} for global commands.
+     * @param command the registered command.
+     * @param id the ID Discord assigned to the command.
+     */
+    private void onSlashCommandRegistered(long scope, @NotNull PendingCommand command, long id) {
+        if (snapshot != null && command.tree != null) {
+            snapshot.put(scope, id, command.rootNode.getHash(), command.tree);
+        }
+        SlashCommandRegistry registry = new SlashCommandRegistry(id, command.rootNode);
+        SlashCommandRegistry previous = commandRegistry.put(command.rootCmd.getCommandName(), registry);
+        if (previous != null && registry.isDifferent(previous)) {
+            log(LogLevel.INFO, "Updated slash command '" + command.rootNode.name + "', changed: " + String.join(", ", registry.getChanges(previous)) + ".");
+        }
+        publishRootCommand(command.commandName, command.rootCmd);
+        publishRoutes(command.rootCmd, command.rootNode);
+    }
+
+    /**
+     * Routes every command path of a registered slash command ahead of time, so interactions can be matched to their
+     * handler with a single lookup of their full command name.
+     *
+     * @param rootCmd the registered root command.
+     * @param rootNode the root node of the registered command.
+     */
+    private synchronized void publishRoutes(@NotNull JavacordRootCommand rootCmd, @NotNull SlashCommandNode rootNode) {
+        Map<String, SlashRoute> routes = new HashMap<>(this.routes);
+        addRoute(routes, rootCmd);
+        for (SlashCommandNode child : rootNode.children) {
+            if (child.type == SlashCommandNodeType.SUBCOMMAND) {
+                addRoute(routes, rootCmd, child.name);
+            } else if (child.type == SlashCommandNodeType.SUBCOMMAND_GROUP) {
+                for (SlashCommandNode subCommand : child.children) {
+                    addRoute(routes, rootCmd, child.name, subCommand.name);
                 }
-            }).exceptionally(throwable -> {
-                log(LogLevel.ERROR, "Failed to register slash command '" + rootCmd.getCommandName() + "'.", throwable);
-                return null;
-            });
+            }
+        }
+        this.routes = Collections.unmodifiableMap(routes);
+    }
+
+    private void addRoute(@NotNull Map<String, SlashRoute> routes, @NotNull JavacordRootCommand rootCmd, @NotNull String... path) {
+        CommandRouter router = getRouter();
+        CommandRouter.RouteSearch search = router.routeCommand(rootCmd, rootCmd.getCommandName(), path, false);
+        if (search == null) {
+            return;
+        }
+        CommandRouter.CommandRouteResult result = router.matchCommand(search, false);
+        if (result != null) {
+            String fullName = path.length == 0 ? rootCmd.getCommandName() : rootCmd.getCommandName() + " " + String.join(" ", path);
+            routes.put(fullName, new SlashRoute(rootCmd, result));
         }
     }
 
@@ -159,11 +600,298 @@ public class SlashCommandManager
      */
     void dispatchEvent(@NotNull SlashCommandCreateEvent event) {
         SlashCommandInteraction interaction = event.getSlashCommandInteraction();
-        String[] cmdArr = ACFPatterns.SPACE.split(interaction.getFullCommandName());
-        String cmd = cmdArr[0];
-        String cmdArgs = cmdArr.length > 1 ? ACFUtil.join(cmdArr, 1) : " ";
-        String[] args = ACFPatterns.SPACE.split(cmdArgs);
+        SlashRoute route = routes.get(interaction.getFullCommandName());
+        // Find the command before creating the issuer, so unknown commands cost nothing more
+        RootCommand rootCommand = route != null ? route.rootCommand : findRootCommand(interaction.getCommandName());
+        if (rootCommand == null) {
+            return;
+        }
+
+        SlashCommandEvent issuer = new SlashCommandEvent(this, event);
+        startDeferralTimer(issuer, route);
+
+        long channelId = interaction.getChannel().map(TextChannel::getId).orElse(0L);
+        dispatch(channelId, interaction.getUser().getId(), () -> handleEvent(issuer, rootCommand, route));
+    }
+
+    /**
+     * Starts the timer that defers the response to an interaction once the invoked command's response budget has been
+     * exceeded. The timer starts when the interaction is dispatched, so time spent waiting for execution counts
+     * towards the budget as well.
+     *
+     * @param issuer the issuer of the interaction.
+     * @param route the route of the invoked command, or {@code null} if it wasn't routed ahead of time.
+     */
+    private void startDeferralTimer(@NotNull SlashCommandEvent issuer, @Nullable SlashRoute route) {
+        long budget = responseBudgetNanos;
+        boolean ephemeral = false;
+        if (route != null && route.result.cmd instanceof SlashRegisteredCommand) {
+            SlashRegisteredCommand command = (SlashRegisteredCommand) route.result.cmd;
+            if (command.responseBudgetNanos >= 0L) {
+                budget = command.responseBudgetNanos;
+            }
+            ephemeral = command.deferEphemeral;
+        }
+        if (budget <= 0L) {
+            return;
+        }
+
+        timedInteractions.increment();
+        boolean deferEphemeral = ephemeral;
+        issuer.setDeferralTimer(api.getThreadPool().getScheduler().schedule(() -> {
+            if (issuer.defer(deferEphemeral)) {
+                deferredInteractions.increment();
+            }
+        }, budget, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Gets the amount of interactions for which a response budget was enforced.
+     *
+     * @return the amount of timed interactions.
+     */
+    public long getTimedInteractionCount() {
+        return timedInteractions.sum();
+    }
+
+    /**
+     * Gets the amount of interactions whose response was deferred automatically, because the command didn't respond
+     * within its response budget.
+     *
+     * @return the amount of automatically deferred interactions.
+     */
+    public long getDeferredInteractionCount() {
+        return deferredInteractions.sum();
+    }
+
+    /**
+     * Registers a handler that answers autocomplete requests for an option of a slash command. The option must be
+     * marked as autocompletable with {@code @Flags("autocomplete")}.
+     *
+     * @param commandPath the full name of the command, including its subcommand group and subcommand, separated by spaces.
+     * @param optionName the name of the option.
+     * @param handler the handler.
+     */
+    public void registerAutocomplete(@NotNull String commandPath, @NotNull String optionName, @NotNull SlashAutocompleteHandler handler) {
+        autocompleteHandlers.put(autocompleteKey(commandPath, optionName), handler);
+    }
+
+    /**
+     * Unregisters the autocomplete handler of an option of a slash command.
+     *
+     * @param commandPath the full name of the command, including its subcommand group and subcommand, separated by spaces.
+     * @param optionName the name of the option.
+     */
+    public void unregisterAutocomplete(@NotNull String commandPath, @NotNull String optionName) {
+        autocompleteHandlers.remove(autocompleteKey(commandPath, optionName));
+    }
+
+    /**
+     * Gets the cache for the autocomplete choices of options marked with {@code @Flags("autocomplete,autocompletecache")}.
+     *
+     * @return the autocomplete cache.
+     */
+    @NotNull
+    public SlashAutocompleteCache getAutocompleteCache() {
+        return autocompleteCache;
+    }
+
+    @NotNull
+    private static String autocompleteKey(@NotNull String commandPath, @NotNull String optionName) {
+        // Option names can't contain colons
+        return commandPath + ':' + optionName;
+    }
+
+    /**
+     * Dispatches a {@link AutocompleteCreateEvent} to the command manager.
+     *
+     * @param event the {@code AutocompleteCreateEvent} to dispatch.
+     */
+    void dispatchAutocomplete(@NotNull AutocompleteCreateEvent event) {
+        AutocompleteInteraction interaction = event.getAutocompleteInteraction();
+        // Not queued behind the commands of the channel or user, which could make it miss Discord's response window
+        dispatchUnordered(() -> handleAutocomplete(interaction));
+    }
+
+    /**
+     * Answers an autocomplete request with the choices of the handler registered for the focused option. Requests for
+     * options without a handler are answered without choices.
+     *
+     * @param interaction the autocomplete interaction.
+     */
+    private void handleAutocomplete(@NotNull AutocompleteInteraction interaction) {
+        SlashCommandInteractionOption focused = interaction.getFocusedOption();
+        String commandPath = getCommandPath(interaction);
+        SlashAutocompleteHandler handler = autocompleteHandlers.get(autocompleteKey(commandPath, focused.getName()));
+
+        List<SlashCommandOptionChoice> choices = Collections.emptyList();
+        if (handler != null) {
+            String input = focused.getStringRepresentationValue().orElse("");
+            SlashAutocompleteContext context = new SlashAutocompleteContext(this, interaction, commandPath, focused.getName(), input);
+            try {
+                choices = isAutocompleteCached(commandPath, focused.getName())
+                        ? autocompleteCache.get(context, handler)
+                        : handler.complete(context);
+            } catch (Exception ex) {
+                log(LogLevel.ERROR, "Failed to complete option '" + focused.getName() + "' of slash command '" + commandPath + "'.", ex);
+            }
+        }
+        if (choices.size() > SortedCompletionProvider.MAX_CHOICES) {
+            choices = choices.subList(0, SortedCompletionProvider.MAX_CHOICES);
+        }
+        interaction.respondWithChoices(choices);
+    }
+
+    private boolean isAutocompleteCached(@NotNull String commandPath, @NotNull String optionName) {
+        SlashRoute route = routes.get(commandPath);
+        return route != null
+                && route.result.cmd instanceof SlashRegisteredCommand
+                && ((SlashRegisteredCommand) route.result.cmd).isAutocompleteCached(optionName);
+    }
+
+    @NotNull
+    private static String getCommandPath(@NotNull AutocompleteInteraction interaction) {
+        StringBuilder path = new StringBuilder(interaction.getCommandName());
+        List<SlashCommandInteractionOption> options = interaction.getOptions();
+        while (!options.isEmpty() && options.get(0).isSubcommandOrGroup()) {
+            path.append(' ').append(options.get(0).getName());
+            options = options.get(0).getOptions();
+        }
+        return path.toString();
+    }
+
+    /**
+     * Handles a slash command interaction, executing the command it invokes.
+     *
+     * @param event the issuer of the interaction.
+     * @param rootCommand the invoked root command.
+     * @param route the route of the invoked command, or {@code null} if it wasn't routed ahead of time.
+     */
+    private void handleEvent(@NotNull SlashCommandEvent event, @NotNull RootCommand rootCommand, @Nullable SlashRoute route) {
+        if (route != null) {
+            executeRootCommand(event, rootCommand, rootCommand.getCommandName(), route.result.args, route.result);
+            return;
+        }
 
-        executeRootCommand(event, cmd, args);
+        // Not routed ahead of time, let ACF's router handle it
+        CommandArguments args = CommandArguments.tokenize(event.getInteraction().getFullCommandName(), 0);
+        executeRootCommand(event, rootCommand, rootCommand.getCommandName(), args.toArray(1));
+    }
+
+    /**
+     * A slash command path that has been routed ahead of time.
+     */
+    private static final class SlashRoute {
+
+        private final RootCommand rootCommand;
+        private final CommandRouter.CommandRouteResult result;
+
+        private SlashRoute(@NotNull RootCommand rootCommand, @NotNull CommandRouter.CommandRouteResult result) {
+            this.rootCommand = rootCommand;
+            this.result = result;
+        }
+    }
+
+    /**
+     * The scopes of a single call to {@link #registerPendingSlashCommands()}, registered in order with a bounded amount
+     * of registrations in flight. Each completed registration starts the next one.
+     */
+    private final class RegistrationPlan {
+
+        private final List<Map.Entry<Long, List<PendingCommand>>> scopes;
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicInteger completed = new AtomicInteger();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private RegistrationPlan(@NotNull List<Map.Entry<Long, List<PendingCommand>>> scopes) {
+            this.scopes = scopes;
+        }
+
+        @NotNull
+        private CompletableFuture<Void> start(int concurrency) {
+            if (scopes.isEmpty()) {
+                future.complete(null);
+                return future;
+            }
+            // Register the global commands on their own, so they don't compete with the servers
+            int lanes = scopes.get(0).getKey() == 0L ? 1 : Math.min(concurrency, scopes.size());
+            for (int i = 0; i < lanes; i++) {
+                registerNext(concurrency);
+            }
+            return future;
+        }
+
+        private void registerNext(int concurrency) {
+            int index = next.getAndIncrement();
+            if (index >= scopes.size()) {
+                return;
+            }
+            long scope = scopes.get(index).getKey();
+            List<PendingCommand> commands = scopes.get(index).getValue();
+
+            CompletableFuture<Void> registration;
+            try {
+                registration = registerScope(scope, commands);
+            } catch (Throwable thrown) {
+                registration = new CompletableFuture<>();
+                registration.completeExceptionally(thrown);
+            }
+            // Continue on the registration executor, as unchanged scopes complete right away and would otherwise recurse
+            registration.whenCompleteAsync((ignored, throwable) -> {
+                int done = completed.incrementAndGet();
+                notifyListeners(scope, commands.size(), throwable, done);
+                if (done == scopes.size()) {
+                    Throwable cause = failure.get();
+                    if (cause == null) {
+                        future.complete(null);
+                    } else {
+                        future.completeExceptionally(cause);
+                    }
+                    return;
+                }
+                // Once the global commands are done, fill up the remaining lanes
+                int lanes = scope == 0L ? Math.min(concurrency, scopes.size() - done) : 1;
+                for (int i = 0; i < lanes; i++) {
+                    registerNext(concurrency);
+                }
+            }, SlashCommandManager.this::executeRegistrationTask);
+        }
+
+        private void notifyListeners(long scope, int commands, @Nullable Throwable throwable, int done) {
+            if (throwable != null) {
+                failure.compareAndSet(null, throwable);
+            }
+            for (SlashRegistrationListener listener : registrationListeners) {
+                try {
+                    if (throwable == null) {
+                        listener.onScopeRegistered(scope, commands, done, scopes.size());
+                    } else {
+                        listener.onScopeFailed(scope, throwable, done, scopes.size());
+                    }
+                } catch (Exception ex) {
+                    log(LogLevel.ERROR, "Uncaught exception in slash command registration listener.", ex);
+                }
+            }
+        }
+    }
+
+    /**
+     * A root command that has been registered to this manager, along with its node.
+     */
+    private static final class PendingCommand {
+
+        private final String commandName;
+        private final JavacordRootCommand rootCmd;
+        private final SlashCommandNode rootNode;
+        @Nullable
+        private final JsonNode tree; // Only set if a snapshot is used
+
+        private PendingCommand(@NotNull String commandName, @NotNull JavacordRootCommand rootCmd, @NotNull SlashCommandNode rootNode, @Nullable JsonNode tree) {
+            this.commandName = commandName;
+            this.rootCmd = rootCmd;
+            this.rootNode = rootNode;
+            this.tree = tree;
+        }
     }
 }
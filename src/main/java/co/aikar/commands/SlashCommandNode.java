@@ -20,26 +20,29 @@ import co.aikar.commands.annotation.Subcommand;
 import co.aikar.commands.javacord.annotation.CommandOptions;
 import co.aikar.commands.javacord.annotation.ServerCommand;
 import co.aikar.commands.javacord.exception.SlashCommandRegistryException;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.google.common.base.Preconditions;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import org.javacord.api.DiscordApi;
 import org.javacord.api.entity.permission.PermissionType;
 import org.javacord.api.entity.server.Server;
-import org.javacord.api.interaction.SlashCommand;
 import org.javacord.api.interaction.SlashCommandBuilder;
 import org.javacord.api.interaction.SlashCommandOptionType;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CancellationException;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
+import java.util.TreeMap;
 
 /**
  * A {@code SlashCommandNode} represents a part of a slash command.A node can any type of {@link SlashCommandNodeType}.
@@ -49,6 +52,7 @@ import java.util.concurrent.CompletionException;
  */
 @SuppressWarnings("rawtypes,ConstantConditions")
 @JsonPropertyOrder({"type", "name", "description", "properties", "children"})
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY, getterVisibility = JsonAutoDetect.Visibility.NONE, isGetterVisibility = JsonAutoDetect.Visibility.NONE)
 public class SlashCommandNode {
 
     @NotNull
@@ -60,11 +64,16 @@ public class SlashCommandNode {
     @NotNull
     final Map<String, Object> properties;
     @Nullable
+    @JsonIgnore
     final SlashCommandNode parent;
     @NotNull
     final List<SlashCommandNode> children;
-
-    private boolean registered;
+    // Hash of the type, name, description and properties of this node
+    @JsonIgnore
+    private long contentHash;
+    // Hash of the content hash of this node and the hashes of its children
+    @JsonIgnore
+    private long hash;
 
     //region Constructors
     /**
@@ -82,6 +91,7 @@ public class SlashCommandNode {
         Map<String, RegisteredCommand> subCommands = SlashCommandUtils.createNewSubcommandMap(rootCommand);
 
         // Process subcommands
+        boolean hasOwnSubcommands = false;
         for (Map.Entry<String, RegisteredCommand> entry : subCommands.entrySet()) {
             String key = entry.getKey();
             if (key.equals("__default") || SlashCommandUtils.isNotOwnSubcommand(name, key)) {
@@ -89,6 +99,10 @@ public class SlashCommandNode {
             }
             String subCommandName = SlashCommandUtils.getSubcommandName(key);
             children.add(new SlashCommandNode(subCommandName, entry.getValue(), this));
+            hasOwnSubcommands = true;
+        }
+        // Strip the command's own name from the remaining keys once, rather than copying the map for every subcommand
+        if (hasOwnSubcommands) {
             subCommands = SlashCommandUtils.splitRemoveFirstIf(subCommands, name);
         }
 
@@ -114,22 +128,23 @@ public class SlashCommandNode {
         if (baseClass.isAnnotationPresent(ServerCommand.class)) {
             ServerCommand serverCommand = baseClass.getAnnotation(ServerCommand.class);
 
-            Server server = null;
+            long serverId = 0L;
             // If an ID has been defined
             if (serverCommand.id() != 0L) {
-                server = api.getServerById(serverCommand.id()).orElse(null);
+                serverId = api.getServerById(serverCommand.id()).map(Server::getId).orElse(0L);
             }
             // If a name has been defined
             else if (!serverCommand.name().isEmpty()) {
-                server = api.getServersByName(serverCommand.name()).stream().findAny().orElse(null);
+                serverId = manager.findServerIdByName(serverCommand.name());
             }
 
-            if (server != null) {
-                properties.put("server", server.getId());
+            if (serverId != 0L) {
+                properties.put("server", serverId);
             } else {
                 ACFUtil.sneaky(new SlashCommandRegistryException("Failed to find server for server command '" + name + "'."));
             }
         }
+        computeHashes();
     }
 
     /**
@@ -154,6 +169,7 @@ public class SlashCommandNode {
             children.add(new SlashCommandNode(subCommandName, entry.getValue(), this));
             subCommandNames.add(subCommandName);
         }
+        computeHashes();
     }
 
     /**
@@ -180,6 +196,7 @@ public class SlashCommandNode {
             previousParam = parameter;
             children.add(new SlashCommandNode(parameter, this));
         }
+        computeHashes();
     }
 
     /**
@@ -200,6 +217,7 @@ public class SlashCommandNode {
 
         // Process parameter choices
         SlashCommandUtils.processParameterChoices(parameter, properties);
+        computeHashes();
     }
 
     /**
@@ -221,7 +239,6 @@ public class SlashCommandNode {
         this.properties = new HashMap<>();
         this.parent = parent;
         this.children = new ArrayList<>();
-        this.registered = false;
     }
 
     @JsonCreator
@@ -237,98 +254,164 @@ public class SlashCommandNode {
         this.properties = properties;
         this.parent = parent;
         this.children = children;
-        this.registered = false;
+        computeHashes();
     }
     //endregion
 
+    //region Hashing
     /**
-     * Registers a root node as a slash command.
-     *
-     * @param manager the slash command manager.
+     * Computes the hashes of this node, once its properties and children are complete.
+     */
+    private void computeHashes() {
+        Hasher content = Hashing.murmur3_128().newHasher();
+        content.putInt(type.ordinal());
+        content.putString(name, StandardCharsets.UTF_8);
+        content.putString(description, StandardCharsets.UTF_8);
+        putValue(content, properties);
+        this.contentHash = content.hash().asLong();
+
+        Hasher tree = Hashing.murmur3_128().newHasher();
+        tree.putLong(contentHash);
+        tree.putInt(children.size());
+        for (SlashCommandNode child : children) {
+            tree.putLong(child.hash);
+        }
+        this.hash = tree.hash().asLong();
+    }
+
+    /**
+     * Adds a property value to a hasher. Each value is prefixed with a tag for its kind, and maps are added in key
+     * order, so the hash doesn't depend on the order in which properties were added.
      *
-     * @return a {@link CompletableFuture} that completes with a {@link SlashCommandRegistry} when the command has been registered.
+     * @param hasher the hasher.
+     * @param value the property value.
      */
-    @NotNull
-    CompletableFuture<SlashCommandRegistry> register(@NotNull SlashCommandManager manager) {
-        if (registered) {
-            throw new SlashCommandRegistryException("This command has already been registered.");
+    private static void putValue(@NotNull Hasher hasher, @Nullable Object value) {
+        if (value == null) {
+            hasher.putByte((byte) 0);
+        } else if (value instanceof Boolean) {
+            hasher.putByte((byte) 1).putBoolean((Boolean) value);
+        } else if (value instanceof Number) {
+            hasher.putByte((byte) 2).putLong(((Number) value).longValue());
+        } else if (value instanceof Enum) {
+            hasher.putByte((byte) 3).putString(((Enum<?>) value).name(), StandardCharsets.UTF_8);
+        } else if (value instanceof Object[]) {
+            Object[] array = (Object[]) value;
+            hasher.putByte((byte) 4).putInt(array.length);
+            for (Object element : array) {
+                putValue(hasher, element);
+            }
+        } else if (value instanceof Collection) {
+            Collection<?> collection = (Collection<?>) value;
+            hasher.putByte((byte) 4).putInt(collection.size());
+            for (Object element : collection) {
+                putValue(hasher, element);
+            }
+        } else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            hasher.putByte((byte) 5).putInt(map.size());
+            for (Map.Entry<String, ?> entry : sorted(map).entrySet()) {
+                hasher.putString(entry.getKey(), StandardCharsets.UTF_8);
+                putValue(hasher, entry.getValue());
+            }
+        } else {
+            hasher.putByte((byte) 6).putString(value.toString(), StandardCharsets.UTF_8);
         }
-        Preconditions.checkState(type == SlashCommandNodeType.ROOT, "Cannot register non-root node.");
-
-        if (properties.containsKey("server")) {
-            long serverId = (long) properties.get("server");
-
-            return CompletableFuture.supplyAsync(() -> {
-                SlashCommand command;
-                try {
-                    command = toBuilder().createForServer(manager.api, serverId).join();
-                } catch (CompletionException | CancellationException thrown) {
-                    throw new SlashCommandRegistryException("Failed to register slash command '" + name + "'.", thrown);
-                }
-                registered = true;
-                return new SlashCommandRegistry(command.getId(), this);
-            });
+    }
+
+    @NotNull
+    private static TreeMap<String, ?> sorted(@NotNull Map<?, ?> map) {
+        TreeMap<String, Object> sorted = new TreeMap<>();
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            sorted.put(String.valueOf(entry.getKey()), entry.getValue());
         }
-        return CompletableFuture.supplyAsync(() -> {
-            SlashCommand command;
-            try {
-                command = toBuilder().createGlobal(manager.api)
-                        .join();
-            } catch (CompletionException | CancellationException thrown) {
-                throw new SlashCommandRegistryException("Failed to register slash command '" + name + "'.", thrown);
-            }
-            registered = true;
-            return new SlashCommandRegistry(command.getId(), this);
-        });
+        return sorted;
     }
 
     /**
-     * Compares this node to another node.
+     * Gets the structural hash of this node, which covers its type, name, description, properties and all of its
+     * children. Two nodes with the same hash describe the same command (part).
      *
-     * @param other the other node.
+     * @return the hash of this node.
+     */
+    long getHash() {
+        return hash;
+    }
+
+    /**
+     * Gets the paths of the nodes that differ between this node and a previous version of it. A node is listed if its
+     * own content or its set of children changed; unchanged subtrees are skipped without being visited.
      *
-     * @return {@code true} if the nodes are equal, {@code false} otherwise.
+     * @param previous the previous version of this node, or {@code null} if there is none.
+     *
+     * @return the paths of the changed nodes, separated by spaces, or an empty list if the nodes are equal.
      */
-    @SuppressWarnings("BooleanMethodIsAlwaysInverted")
-    boolean isEqual(@NotNull SlashCommandNode other) {
-        // Compare node type
-        if (this.type != other.type) {
-            return false;
-        }
+    @NotNull
+    List<String> getChangedPaths(@Nullable SlashCommandNode previous) {
+        List<String> changes = new ArrayList<>();
+        collectChanges(previous, name, changes);
+        return changes;
+    }
 
-        // Compare node name & description
-        if (!this.name.equals(other.name)
-                || !this.description.equals(other.description)) {
-            return false;
+    private void collectChanges(@Nullable SlashCommandNode previous, @NotNull String path, @NotNull List<String> changes) {
+        if (previous != null && previous.hash == hash) {
+            return;
         }
-
-        // Compare properties
-        if (this.properties.size() != other.properties.size()) {
-            return false;
+        if (previous == null || previous.contentHash != contentHash || !childNames().equals(previous.childNames())) {
+            changes.add(path);
+            if (previous == null) {
+                return;
+            }
         }
-        if (!this.properties.isEmpty()) {
-            for (Map.Entry<String, Object> entry : this.properties.entrySet()) {
-                if (!other.properties.containsKey(entry.getKey())) {
-                    return false;
-                }
-                if (!other.properties.get(entry.getKey()).equals(entry.getValue())) {
-                    return false;
-                }
+        for (SlashCommandNode child : children) {
+            SlashCommandNode previousChild = previous.getChild(child.name);
+            if (previousChild != null) {
+                child.collectChanges(previousChild, path + " " + child.name, changes);
             }
         }
+    }
 
-        // Compare children
-        if (this.children.size() != other.children.size()) {
-            return false;
+    @NotNull
+    private List<String> childNames() {
+        List<String> names = new ArrayList<>(children.size());
+        for (SlashCommandNode child : children) {
+            names.add(child.name);
         }
-        if (!this.children.isEmpty()) {
-            for (int i = 0; i < this.children.size(); i++) {
-                if (!this.children.get(i).isEqual(other.children.get(i))) {
-                    return false;
-                }
+        return names;
+    }
+
+    @Nullable
+    private SlashCommandNode getChild(@NotNull String name) {
+        for (SlashCommandNode child : children) {
+            if (child.name.equals(name)) {
+                return child;
             }
         }
-        return true;
+        return null;
+    }
+    //endregion
+
+    /**
+     * Gets the ID of the server a root node is registered for.
+     *
+     * @return the ID of the server, or {@code 0} if the command is registered globally.
+     */
+    long getServerId() {
+        Preconditions.checkState(type == SlashCommandNodeType.ROOT, "Only root nodes are registered.");
+        Object serverId = properties.get("server");
+        return serverId != null ? ((Number) serverId).longValue() : 0L;
+    }
+
+    /**
+     * Compares this node to another node by their structural hashes.
+     *
+     * @param other the other node.
+     *
+     * @return {@code true} if the nodes are equal, {@code false} otherwise.
+     */
+    @SuppressWarnings("BooleanMethodIsAlwaysInverted")
+    boolean isEqual(@NotNull SlashCommandNode other) {
+        return this.hash == other.hash;
     }
 
     /**
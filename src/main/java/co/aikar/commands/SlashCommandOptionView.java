@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package co.aikar.commands;
+
+import org.javacord.api.interaction.SlashCommandInteractionOption;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * A view of the options of a slash command interaction, shared by the contexts of all parameters of a single invocation.
+ * <p>
+ * Options are matched to the parameters of the command by name, using the command's precomputed option index, so each
+ * parameter reads its own option regardless of the order in which Discord sent them or which optional ones were left
+ * out. Consuming an option only clears its slot; the interaction's option list itself is never copied.
+ *
+ * @since 0.5.1
+ */
+final class SlashCommandOptionView {
+
+    private final SlashCommandInteractionOption[] options;
+
+    /**
+     * Creates a view of the given options for the given command.
+     *
+     * @param command the invoked command.
+     * @param options the options of the interaction.
+     */
+    SlashCommandOptionView(@NotNull SlashRegisteredCommand command, @NotNull List<SlashCommandInteractionOption> options) {
+        this.options = new SlashCommandInteractionOption[command.parameters.length];
+        for (int i = 0, size = options.size(); i < size; i++) {
+            SlashCommandInteractionOption option = options.get(i);
+            int index = command.getOptionIndex(option.getName());
+            if (index >= 0) {
+                this.options[index] = option;
+            }
+        }
+    }
+
+    /**
+     * Creates a view with a single option, for the parameter at the given index.
+     *
+     * @param size the amount of parameters.
+     * @param index the index of the parameter.
+     * @param option the option for the parameter, or {@code null} if it has none.
+     */
+    SlashCommandOptionView(int size, int index, @Nullable SlashCommandInteractionOption option) {
+        this.options = new SlashCommandInteractionOption[size];
+        this.options[index] = option;
+    }
+
+    /**
+     * Checks whether there is an unconsumed option for the parameter at the given index.
+     *
+     * @param index the index of the parameter.
+     *
+     * @return {@code true} if the parameter has an option, {@code false} otherwise.
+     */
+    boolean has(int index) {
+        return options[index] != null;
+    }
+
+    /**
+     * Gets the option for the parameter at the given index.
+     *
+     * @param index the index of the parameter.
+     *
+     * @return the option, or {@code null} if the parameter has no (unconsumed) option.
+     */
+    @Nullable
+    SlashCommandInteractionOption get(int index) {
+        return options[index];
+    }
+
+    /**
+     * Consumes the option for the parameter at the given index.
+     *
+     * @param index the index of the parameter.
+     *
+     * @return the consumed option, or {@code null} if the parameter had no (unconsumed) option.
+     */
+    @Nullable
+    SlashCommandInteractionOption consume(int index) {
+        SlashCommandInteractionOption option = options[index];
+        options[index] = null;
+        return option;
+    }
+}
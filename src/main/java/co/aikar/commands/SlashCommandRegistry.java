@@ -18,6 +18,7 @@ package co.aikar.commands;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class SlashCommandRegistry {
@@ -49,4 +50,16 @@ public class SlashCommandRegistry {
     public boolean isDifferent(@NotNull SlashCommandRegistry other) {
         return !this.root.isEqual(other.root);
     }
+
+    /**
+     * Gets the paths of the command parts that differ between this registry and another registry.
+     *
+     * @param other the other registry.
+     *
+     * @return the paths of the changed command parts, or an empty list if the registries are equal.
+     */
+    @NotNull
+    public List<String> getChanges(@NotNull SlashCommandRegistry other) {
+        return this.root.getChangedPaths(other.root);
+    }
 }
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands;
+
+import co.aikar.commands.javacord.util.FileUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A local snapshot of the slash commands that were registered to Discord, along with the IDs Discord assigned to them.
+ * Used to skip registering commands that haven't changed since the last time the bot was started.
+ * <p>
+ * The snapshot is stored as a JSON map from the scope ({@code "global"} or a server ID) to a map from the command name
+ * to its ID, {@link SlashCommandNode#getHash() structural hash} and node tree. Commands are compared by their hash; the
+ * tree is only stored so the snapshot can be inspected.
+ *
+ * @since 0.5.1
+ */
+final class SlashCommandSnapshot {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String GLOBAL_SCOPE = "global";
+
+    private final AbstractJavacordCommandManager<?, ?, ?> manager;
+    private final String path;
+    private final long applicationId;
+    private final Map<Long, Map<String, Entry>> scopes = new HashMap<>();
+
+    private SlashCommandSnapshot(@NotNull AbstractJavacordCommandManager<?, ?, ?> manager, @NotNull String path, long applicationId) {
+        this.manager = manager;
+        this.path = path;
+        this.applicationId = applicationId;
+    }
+
+    /**
+     * Loads the snapshot from the file with the given path, creating the file if it doesn't exist yet.
+     * <p>
+     * If the file can't be read, or was written for another application, the snapshot starts out empty, causing all
+     * commands to be registered.
+     *
+     * @param manager the manager the snapshot belongs to.
+     * @param path the path of the snapshot file.
+     * @param applicationId the ID of the bot's application.
+     *
+     * @return the loaded snapshot.
+     */
+    @NotNull
+    static SlashCommandSnapshot load(@NotNull AbstractJavacordCommandManager<?, ?, ?> manager, @NotNull String path, long applicationId) {
+        SlashCommandSnapshot snapshot = new SlashCommandSnapshot(manager, path, applicationId);
+        if (FileUtils.writeEmptyJsonMap(path)) {
+            return snapshot;
+        }
+
+        try {
+            JsonNode root = MAPPER.readTree(new File(path));
+            if (root == null || root.path("application").asLong() != applicationId) {
+                return snapshot;
+            }
+            Iterator<Map.Entry<String, JsonNode>> scopes = root.path("scopes").fields();
+            while (scopes.hasNext()) {
+                Map.Entry<String, JsonNode> scope = scopes.next();
+                Map<String, Entry> commands = new HashMap<>();
+                Iterator<Map.Entry<String, JsonNode>> entries = scope.getValue().fields();
+                while (entries.hasNext()) {
+                    Map.Entry<String, JsonNode> entry = entries.next();
+                    commands.put(entry.getKey(), new Entry(entry.getValue().path("id").asLong(), entry.getValue().path("hash").asLong(), entry.getValue().path("node")));
+                }
+                snapshot.scopes.put(GLOBAL_SCOPE.equals(scope.getKey()) ? 0L : Long.parseLong(scope.getKey()), commands);
+            }
+        } catch (IOException | RuntimeException ex) {
+            manager.log(LogLevel.ERROR, "Failed to read slash command snapshot '" + path + "', registering all slash commands.", ex);
+            snapshot.scopes.clear();
+        }
+        return snapshot;
+    }
+
+    /**
+     * Converts a node to its JSON tree, as it would be stored in the snapshot.
+     *
+     * @param node the node to convert.
+     *
+     * @return the JSON tree of the node.
+     */
+    @NotNull
+    static JsonNode toTree(@NotNull SlashCommandNode node) {
+        try {
+            return MAPPER.valueToTree(node);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalStateException("Failed to serialize slash command '" + node.name + "'.", ex);
+        }
+    }
+
+    /**
+     * Gets the stored entry of a command.
+     *
+     * @param scope the ID of the server, or {@code 0} for global commands.
+     * @param name the name of the command.
+     *
+     * @return the stored entry, or {@code null} if the command isn't in the snapshot.
+     */
+    @Nullable
+    synchronized Entry get(long scope, @NotNull String name) {
+        Map<String, Entry> commands = scopes.get(scope);
+        return commands != null ? commands.get(name) : null;
+    }
+
+    /**
+     * Gets the names of all stored commands in a scope.
+     *
+     * @param scope the ID of the server, or {@code 0} for global commands.
+     *
+     * @return the names of the stored commands.
+     */
+    @NotNull
+    synchronized Set<String> getNames(long scope) {
+        Map<String, Entry> commands = scopes.get(scope);
+        return commands != null ? new HashSet<>(commands.keySet()) : Collections.emptySet();
+    }
+
+    /**
+     * Stores a registered command.
+     *
+     * @param scope the ID of the server, or {@code 0} for global commands.
+     * @param id the ID Discord assigned to the command.
+     * @param hash the structural hash of the command's root node.
+     * @param tree the JSON tree of the command's root node.
+     */
+    synchronized void put(long scope, long id, long hash, @NotNull JsonNode tree) {
+        scopes.computeIfAbsent(scope, k -> new HashMap<>()).put(tree.path("name").asText(), new Entry(id, hash, tree));
+    }
+
+    /**
+     * Removes all commands from a scope except for the given ones.
+     *
+     * @param scope the ID of the server, or {@code 0} for global commands.
+     * @param names the names of the commands to keep.
+     */
+    synchronized void retain(long scope, @NotNull Collection<String> names) {
+        Map<String, Entry> commands = scopes.get(scope);
+        if (commands != null) {
+            commands.keySet().retainAll(names);
+        }
+    }
+
+    /**
+     * Writes the snapshot to its file.
+     */
+    synchronized void save() {
+        ObjectNode root = MAPPER.createObjectNode();
+        root.put("application", applicationId);
+        ObjectNode scopesNode = root.putObject("scopes");
+        for (Map.Entry<Long, Map<String, Entry>> scope : scopes.entrySet()) {
+            ObjectNode commandsNode = scopesNode.putObject(scope.getKey() == 0L ? GLOBAL_SCOPE : Long.toString(scope.getKey()));
+            for (Map.Entry<String, Entry> command : scope.getValue().entrySet()) {
+                ObjectNode commandNode = commandsNode.putObject(command.getKey());
+                commandNode.put("id", command.getValue().id);
+                commandNode.put("hash", command.getValue().hash);
+                commandNode.set("node", command.getValue().tree);
+            }
+        }
+
+        try {
+            FileUtils.createFileIfRequired(path);
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(new File(path), root);
+        } catch (IOException ex) {
+            manager.log(LogLevel.ERROR, "Failed to write slash command snapshot '" + path + "'.", ex);
+        }
+    }
+
+    /**
+     * A command stored in the snapshot.
+     */
+    static final class Entry {
+
+        final long id;
+        final long hash;
+        final JsonNode tree;
+
+        private Entry(long id, long hash, @NotNull JsonNode tree) {
+            this.id = id;
+            this.hash = hash;
+            this.tree = tree;
+        }
+    }
+}
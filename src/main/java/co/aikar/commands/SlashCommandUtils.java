@@ -144,7 +144,7 @@ public final class SlashCommandUtils {
      * @return the created subcommand map.
      */
     static Map<String, RegisteredCommand> createNewSubcommandMap(@NotNull RootCommand command) {
-        Map<String, RegisteredCommand> subcommands = new HashMap<>();
+        Map<String, RegisteredCommand> subcommands = new HashMap<>(command.getSubCommands().size() * 4 / 3 + 1);
 
         for (RegisteredCommand registeredCommand : command.getSubCommands().values()) {
             subcommands.put(registeredCommand.command, registeredCommand);
@@ -161,16 +161,11 @@ public final class SlashCommandUtils {
      * @return the subcommand map with the first word removed from all entries.
      */
     static Map<String, RegisteredCommand> splitRemoveFirstIf(@NotNull Map<String, RegisteredCommand> subcommands, @NotNull String searchKey) {
-        Map<String, RegisteredCommand> result = new HashMap<>();
+        Map<String, RegisteredCommand> result = new HashMap<>(subcommands.size() * 4 / 3 + 1);
 
         for (Map.Entry<String, RegisteredCommand> entry : subcommands.entrySet()) {
-            String[] split = StringUtils.splitOnWhitespace(entry.getKey());
-            if (!split[0].equals(searchKey)) {
-                result.put(entry.getKey(), entry.getValue());
-                continue;
-            }
-            String newKey = ACFUtil.join(Arrays.copyOfRange(split, 1, split.length), " ");
-            result.put(newKey, entry.getValue());
+            String key = entry.getKey();
+            result.put(StringUtils.firstWordEquals(key, searchKey) ? StringUtils.removeFirstWord(key) : key, entry.getValue());
         }
         return result;
     }
@@ -184,11 +179,7 @@ public final class SlashCommandUtils {
      */
     @NotNull
     static String getSubcommandName(@NotNull String name) {
-        if (StringUtils.containsWhitespace(name)) {
-            String[] split = StringUtils.splitOnWhitespace(name);
-            return ACFUtil.join(Arrays.copyOfRange(split, 1, split.length), " ");
-        }
-        return name;
+        return StringUtils.containsWhitespace(name) ? StringUtils.removeFirstWord(name) : name;
     }
 
     /**
@@ -200,12 +191,7 @@ public final class SlashCommandUtils {
      * @return {@code true} if the subcommand should be registered as a subcommand of its node, {@code false} otherwise.
      */
     static boolean isNotOwnSubcommand(@NotNull String nodeName, @NotNull String name) {
-        String[] split = StringUtils.splitOnWhitespace(name);
-        if (!split[0].equals(nodeName)) {
-            return true;
-        }
-        split = Arrays.copyOfRange(split, 1, split.length);
-        return split.length != 1;
+        return !StringUtils.firstWordEquals(name, nodeName) || StringUtils.countWordsAfterFirst(name) != 1;
     }
 
     /**
@@ -17,9 +17,10 @@
 package co.aikar.commands;
 
 import co.aikar.commands.contexts.ContextResolver;
+import co.aikar.commands.javacord.annotation.ResponseBudget;
 import co.aikar.commands.javacord.exception.JavacordInvalidCommandArgument;
-import org.javacord.api.interaction.SlashCommandInteractionOption;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Method;
 import java.util.*;
@@ -31,8 +32,64 @@ import java.util.concurrent.CompletionStage;
 @SuppressWarnings("rawtypes,unchecked")
 public class SlashRegisteredCommand extends RegisteredCommand {
 
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    final CommandRateLimiter[] rateLimiters;
+    private final CommandInvoker invoker;
+    // One step per parameter, compiled at registration
+    private final ResolutionStep[] plan;
+    // Time the command may take to respond before it is deferred, or -1 to use the manager's default
+    final long responseBudgetNanos;
+    final boolean deferEphemeral;
+    // Names of the options whose autocomplete choices are cached
+    private final Set<String> cachedAutocompleteOptions;
+    // Parameter index by option name
+    private final Map<String, Integer> optionIndex;
+
     SlashRegisteredCommand(@NotNull BaseCommand scope, @NotNull String command, @NotNull Method method, @NotNull String prefSubCommand) {
         super(scope, command, method, prefSubCommand);
+        this.rateLimiters = CommandRateLimiter.forMethod(method);
+        this.invoker = CommandInvoker.of(method);
+        this.plan = new ResolutionStep[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            plan[i] = new ResolutionStep(parameters[i], i == parameters.length - 1);
+        }
+        ResponseBudget budget = method.isAnnotationPresent(ResponseBudget.class)
+                ? method.getAnnotation(ResponseBudget.class)
+                : scope.getClass().getAnnotation(ResponseBudget.class);
+        this.responseBudgetNanos = budget != null ? budget.unit().toNanos(budget.value()) : -1L;
+        this.deferEphemeral = budget != null && budget.ephemeral();
+        this.optionIndex = new HashMap<>();
+        this.cachedAutocompleteOptions = new HashSet<>();
+        for (int i = 0; i < parameters.length; i++) {
+            optionIndex.put(parameters[i].getName(), i);
+            if (parameters[i].getFlags().containsKey("autocompletecache")) {
+                cachedAutocompleteOptions.add(parameters[i].getName());
+            }
+        }
+    }
+
+    /**
+     * Gets the index of the parameter that the option with the given name is for.
+     *
+     * @param name the name of the option.
+     *
+     * @return the index of the parameter, or {@code -1} if there is no parameter with that name.
+     */
+    int getOptionIndex(@NotNull String name) {
+        Integer index = optionIndex.get(name);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Gets whether the autocomplete choices of the option with the given name are cached.
+     *
+     * @param name the name of the option.
+     *
+     * @return {@code true} if the option is marked with the {@code autocompletecache} flag, {@code false} otherwise.
+     */
+    boolean isAutocompleteCached(@NotNull String name) {
+        return cachedAutocompleteOptions.contains(name);
     }
 
     @Override
@@ -43,14 +100,24 @@ public class SlashRegisteredCommand extends RegisteredCommand {
     void invoke(SlashCommandEvent event, CommandOperationContext context) {
         preCommand();
 
+        SlashCommandManager manager = (SlashCommandManager) this.manager;
         try {
-            manager.getCommandConditions().validateConditions(context);
-            Map<String, Object> passedArgs = resolveContexts(event);
-            if (passedArgs == null) {
+            // Before any resolvers run, so requests over the limits are cheap to reject
+            manager.checkRateLimits(rateLimiters, event);
+            Object[] args;
+            try {
+                manager.getCommandConditions().validateConditions(context);
+                args = resolveArguments(event, plan.length);
+            } catch (Exception ex) {
+                manager.releaseRateLimits(rateLimiters, event);
+                throw ex;
+            }
+            if (args == null) {
+                manager.releaseRateLimits(rateLimiters, event);
                 return;
             }
 
-            Object obj = method.invoke(scope, passedArgs.values().toArray());
+            Object obj = invoker.invoke(scope, args);
             if (obj instanceof CompletionStage) {
                 CompletionStage<?> future = (CompletionStage<?>) obj;
                 future.exceptionally((t) -> {
@@ -70,60 +137,115 @@ public class SlashRegisteredCommand extends RegisteredCommand {
     }
 
     Map<String, Object> resolveContexts(SlashCommandEvent event, String name) {
-        List<SlashCommandInteractionOption> args = new ArrayList<>(event.getInteraction().getArguments());
+        int count = name != null ? getParameterIndex(name) + 1 : plan.length;
+        Object[] values = resolveArguments(event, count > 0 ? count : plan.length);
+        if (values == null) {
+            return null;
+        }
         Map<String, Object> passedArgs = new LinkedHashMap<>();
-        int remainingRequired = requiredResolvers;
-
-        for (int i = 0; i < parameters.length && (name == null || !passedArgs.containsKey(name)); i++) {
-            boolean isLast = i == parameters.length - 1;
-            final CommandParameter parameter = parameters[i];
-            final String parameterName = parameter.getName();
-            final Class<?> type = parameter.getType();
-            final ContextResolver resolver = parameter.getResolver();
-            SlashCommandExecutionContext context = ((SlashCommandManager) manager).createCommandContext(this, parameter, event, event.getInteraction().getArguments());
-            boolean requiresInput = parameter.requiresInput();
-            if (requiresInput && remainingRequired > 0) {
-                remainingRequired--;
+        for (int i = 0; i < values.length; i++) {
+            passedArgs.put(plan[i].name, values[i]);
+        }
+        return passedArgs;
+    }
+
+    private int getParameterIndex(String name) {
+        for (int i = 0; i < plan.length; i++) {
+            if (plan[i].name.equals(name)) {
+                return i;
             }
+        }
+        return -1;
+    }
 
-            Set<String> parameterPermissions = parameter.getRequiredPermissions();
-            if (args.isEmpty() && !(isLast && type == String[].class)) {
-                // TODO: not sure if this is necessary for slash commands, works fine without it (for now)
-//                if (allowOptional && parameter.getDefaultValue() != null) {
-//                    args.add(parameter.getDefaultValue());
-//                }
-                if (parameter.isOptional()) {
-                    Object value;
-                    if (!parameter.isOptionalResolver() || !manager.hasPermission(event, parameterPermissions)) {
-                        value = null;
-                    } else {
-                        value = resolver.getContext(context);
-                    }
+    /**
+     * Resolves the arguments of the command's method by running its resolution plan.
+     *
+     * @param event the event that invoked the command.
+     * @param count the amount of arguments to resolve, starting with the first.
+     *
+     * @return the resolved arguments, or {@code null} if the command's syntax was shown instead.
+     */
+    @Nullable
+    Object[] resolveArguments(@NotNull SlashCommandEvent event, int count) {
+        if (count == 0) {
+            return NO_ARGUMENTS;
+        }
 
-                    if (value == null && parameter.getClass().isPrimitive()) {
-                        throw new IllegalStateException("Parameter " + parameterName + " is primitive and does not support @Optional.");
+        SlashCommandManager manager = (SlashCommandManager) this.manager;
+        SlashCommandOptionView options = new SlashCommandOptionView(this, event.getInteraction().getArguments());
+        Object[] values = new Object[count];
+        for (int i = 0; i < count; i++) {
+            ResolutionStep step = plan[i];
+            SlashCommandExecutionContext context = manager.createCommandContext(this, step.parameter, event, options, i);
+
+            if (!step.acceptsMissingInput && !options.has(i)) {
+                if (step.optional) {
+                    Object value = step.optionalResolver && step.hasPermission(manager, event) ? step.resolver.getContext(context) : null;
+                    if (value == null && step.primitive) {
+                        throw new IllegalStateException("Parameter " + step.name + " is primitive and does not support @Optional.");
                     }
-
-                    manager.getCommandConditions().validateConditions(context, value);
-                    passedArgs.put(parameterName, value);
+                    step.validateConditions(manager, context, value);
+                    values[i] = value;
                     continue;
                 }
-                else if (requiresInput) {
+                if (step.requiresInput) {
                     scope.showSyntax(event, this);
                     return null;
                 }
-            } else {
-                if (!manager.hasPermission(event, parameterPermissions)) {
-                    event.sendMessage(MessageType.ERROR, MessageKeys.PERMISSION_DENIED_PARAMETER, "{param}", parameterName);
-                    throw new JavacordInvalidCommandArgument();
-                }
+            } else if (!step.hasPermission(manager, event)) {
+                event.sendMessage(MessageType.ERROR, MessageKeys.PERMISSION_DENIED_PARAMETER, "{param}", step.name);
+                throw new JavacordInvalidCommandArgument();
             }
 
-            Object paramValue = resolver.getContext(context);
-            manager.getCommandConditions().validateConditions(context, paramValue);
-            passedArgs.put(parameterName, paramValue);
+            Object value = step.resolver.getContext(context);
+            step.validateConditions(manager, context, value);
+            values[i] = value;
+        }
+        return values;
+    }
+
+    /**
+     * A step of a resolution plan, which resolves a single parameter. Everything that doesn't depend on the invocation
+     * is looked up once, when the command is registered.
+     */
+    private static final class ResolutionStep {
+
+        private final CommandParameter parameter;
+        private final String name;
+        private final ContextResolver resolver;
+        private final boolean optional;
+        private final boolean optionalResolver;
+        private final boolean requiresInput;
+        private final boolean primitive;
+        // A trailing String[] is resolved even if no option was given
+        private final boolean acceptsMissingInput;
+        @Nullable
+        private final Set<String> permissions;
+        private final boolean hasConditions;
+
+        private ResolutionStep(@NotNull CommandParameter parameter, boolean isLast) {
+            this.parameter = parameter;
+            this.name = parameter.getName();
+            this.resolver = parameter.getResolver();
+            this.optional = parameter.isOptional();
+            this.optionalResolver = parameter.isOptionalResolver();
+            this.requiresInput = parameter.requiresInput();
+            this.primitive = parameter.getType().isPrimitive();
+            this.acceptsMissingInput = isLast && parameter.getType() == String[].class;
+            Set<String> permissions = parameter.getRequiredPermissions();
+            this.permissions = permissions == null || permissions.isEmpty() ? null : permissions;
+            this.hasConditions = parameter.getConditions() != null;
         }
 
-        return passedArgs;
+        private boolean hasPermission(@NotNull SlashCommandManager manager, @NotNull SlashCommandEvent event) {
+            return permissions == null || manager.hasPermission(event, permissions);
+        }
+
+        private void validateConditions(@NotNull SlashCommandManager manager, @NotNull SlashCommandExecutionContext context, @Nullable Object value) {
+            if (hasConditions) {
+                manager.getCommandConditions().validateConditions(context, value);
+            }
+        }
     }
 }
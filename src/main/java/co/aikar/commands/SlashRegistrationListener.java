@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Receives the progress of slash command registrations. Commands are registered per scope: once for all global
+ * commands, and once per server for {@link co.aikar.commands.javacord.annotation.ServerCommand server commands}.
+ *
+ * @since 0.5.1
+ * @see SlashCommandManager#addRegistrationListener(SlashRegistrationListener)
+ */
+public interface SlashRegistrationListener {
+
+    /**
+     * Called when the commands of a scope have been registered.
+     *
+     * @param serverId the ID of the server, or {@code 0} for global commands.
+     * @param commands the amount of commands in the scope.
+     * @param completed the amount of scopes of this registration that have completed, including this one.
+     * @param total the amount of scopes in this registration.
+     */
+    default void onScopeRegistered(long serverId, int commands, int completed, int total) {}
+
+    /**
+     * Called when the commands of a scope failed to register.
+     *
+     * @param serverId the ID of the server, or {@code 0} for global commands.
+     * @param cause the cause of the failure.
+     * @param completed the amount of scopes of this registration that have completed, including this one.
+     * @param total the amount of scopes in this registration.
+     */
+    default void onScopeFailed(long serverId, @NotNull Throwable cause, int completed, int total) {}
+}
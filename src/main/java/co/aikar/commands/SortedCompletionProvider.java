@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands;
+
+import org.javacord.api.interaction.SlashCommandOptionChoice;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A {@link SlashAutocompleteHandler} that suggests the choices of a static set whose names start with the typed value,
+ * ignoring case.
+ * <p>
+ * The choices are sorted by their lower-cased names once, when the provider is created. Each request is answered with
+ * a binary search for the typed prefix followed by a scan of at most {@link #MAX_CHOICES} matches, so large sets
+ * (tens of thousands of choices) are completed without walking the whole set.
+ *
+ * @since 0.5.1
+ */
+public class SortedCompletionProvider implements SlashAutocompleteHandler {
+
+    /**
+     * The maximum amount of choices Discord accepts in an autocomplete response.
+     */
+    public static final int MAX_CHOICES = 25;
+
+    private final String[] keys;
+    private final SlashCommandOptionChoice[] choices;
+
+    /**
+     * Creates a new provider for the given choices.
+     *
+     * @param choices the choices to suggest.
+     */
+    public SortedCompletionProvider(@NotNull Collection<SlashCommandOptionChoice> choices) {
+        SlashCommandOptionChoice[] sorted = choices.toArray(new SlashCommandOptionChoice[0]);
+        String[] keys = new String[sorted.length];
+        Integer[] order = new Integer[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            keys[i] = normalize(sorted[i].getName());
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing(i -> keys[i]));
+
+        this.keys = new String[sorted.length];
+        this.choices = new SlashCommandOptionChoice[sorted.length];
+        for (int i = 0; i < order.length; i++) {
+            this.keys[i] = keys[order[i]];
+            this.choices[i] = sorted[order[i]];
+        }
+    }
+
+    /**
+     * Creates a new provider for string choices whose names are equal to their values.
+     *
+     * @param values the values to suggest.
+     *
+     * @return the created provider.
+     */
+    @NotNull
+    public static SortedCompletionProvider ofStrings(@NotNull Collection<String> values) {
+        List<SlashCommandOptionChoice> choices = new ArrayList<>(values.size());
+        for (String value : values) {
+            choices.add(SlashCommandOptionChoice.create(value, value));
+        }
+        return new SortedCompletionProvider(choices);
+    }
+
+    /**
+     * Creates a new provider for string choices with the given names and values.
+     *
+     * @param values the values to suggest, by their names.
+     *
+     * @return the created provider.
+     */
+    @NotNull
+    public static SortedCompletionProvider ofStrings(@NotNull Map<String, String> values) {
+        List<SlashCommandOptionChoice> choices = new ArrayList<>(values.size());
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            choices.add(SlashCommandOptionChoice.create(entry.getKey(), entry.getValue()));
+        }
+        return new SortedCompletionProvider(choices);
+    }
+
+    /**
+     * Creates a new provider for integer choices with the given names and values.
+     *
+     * @param values the values to suggest, by their names.
+     *
+     * @return the created provider.
+     */
+    @NotNull
+    public static SortedCompletionProvider ofLongs(@NotNull Map<String, Long> values) {
+        List<SlashCommandOptionChoice> choices = new ArrayList<>(values.size());
+        for (Map.Entry<String, Long> entry : values.entrySet()) {
+            choices.add(SlashCommandOptionChoice.create(entry.getKey(), entry.getValue()));
+        }
+        return new SortedCompletionProvider(choices);
+    }
+
+    @Override
+    @NotNull
+    public List<SlashCommandOptionChoice> complete(@NotNull SlashAutocompleteContext context) {
+        return complete(context.getInput(), MAX_CHOICES);
+    }
+
+    /**
+     * Gets the choices whose names start with the given prefix, ignoring case, in the order of their names.
+     *
+     * @param prefix the prefix.
+     * @param limit the maximum amount of choices to return.
+     *
+     * @return the matching choices.
+     */
+    @NotNull
+    public List<SlashCommandOptionChoice> complete(@NotNull String prefix, int limit) {
+        String key = normalize(prefix);
+        int index = lowerBound(key);
+        if (index == keys.length || !keys[index].startsWith(key)) {
+            return Collections.emptyList();
+        }
+
+        List<SlashCommandOptionChoice> result = new ArrayList<>(Math.min(limit, keys.length - index));
+        for (int i = index; i < keys.length && result.size() < limit && keys[i].startsWith(key); i++) {
+            result.add(choices[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the amount of choices of this provider.
+     *
+     * @return the amount of choices.
+     */
+    public int size() {
+        return choices.length;
+    }
+
+    // Index of the first key that isn't smaller than the given key
+    private int lowerBound(@NotNull String key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @NotNull
+    static String normalize(@NotNull String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Access to virtual threads, which are only available on Java 21 and newer.
+ * <p>
+ * This is the Java 8 implementation, which never supports virtual threads. The Java 21 implementation lives in
+ * {@code src/main/java21} and is packaged in the multi-release part of the jar.
+ *
+ * @since 0.5.1
+ */
+final class VirtualThreads {
+
+    private VirtualThreads() { }
+
+    /**
+     * Creates an executor that runs every task on a new virtual thread.
+     *
+     * @param namePrefix the prefix of the names of the created threads.
+     *
+     * @return the executor, or {@code null} if virtual threads are not supported.
+     */
+    @Nullable
+    static ExecutorService newThreadPerTaskExecutor(@NotNull String namePrefix) {
+        return null;
+    }
+}
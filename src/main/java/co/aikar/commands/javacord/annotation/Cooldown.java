@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package co.aikar.commands.javacord.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link Cooldown} annotation is used to define a cooldown for a command.
+ * <p>
+ * After the command has been executed, it can't be executed again within the same {@link #scope() scope} until the
+ * cooldown has passed. Attempts to execute the command during the cooldown fail with a message stating the remaining
+ * time, before any arguments are resolved.
+ * Attempts that fail because of the command's conditions or arguments don't count.
+ *
+ * @since 0.5.1
+ * @see RateLimit
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Cooldown {
+    long value();
+    TimeUnit unit() default TimeUnit.SECONDS;
+    RateLimit.Scope scope() default RateLimit.Scope.USER;
+}
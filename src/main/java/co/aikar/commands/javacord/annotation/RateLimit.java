@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package co.aikar.commands.javacord.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link RateLimit} annotation is used to limit how often a command can be executed.
+ * <p>
+ * Within the same {@link #scope() scope}, the command can be executed {@link #uses()} times in a burst, after which
+ * uses are regained evenly over the given {@link #period()}. Attempts to execute the command while no uses are left
+ * fail with a message stating the remaining time, before any arguments are resolved.
+ * Attempts that fail because of the command's conditions or arguments don't count.
+ *
+ * @since 0.5.1
+ * @see Cooldown
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimit {
+    int uses();
+    long period();
+    TimeUnit unit() default TimeUnit.SECONDS;
+    Scope scope() default Scope.USER;
+
+    /**
+     * The scope in which a {@link Cooldown} or {@link RateLimit} applies.
+     *
+     * @since 0.5.1
+     */
+    enum Scope {
+
+        /**
+         * Each user has their own limit.
+         */
+        USER,
+
+        /**
+         * Each channel has its own limit, shared by all users in that channel.
+         */
+        CHANNEL,
+
+        /**
+         * Each server has its own limit, shared by all users in that server. In private channels, the limit is
+         * applied per channel.
+         */
+        SERVER,
+
+        /**
+         * A single limit is shared by everyone.
+         */
+        GLOBAL
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands.javacord.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link ResponseBudget} annotation is used to override the time a slash command may take to respond, before its
+ * response is deferred automatically.
+ * <p>
+ * Discord requires interactions to be responded to within three seconds. If the command hasn't responded within its
+ * budget, a deferred response is sent on its behalf, and its responses are sent as edits and followups instead. A
+ * budget of {@code 0} disables automatic deferral for the command.
+ *
+ * @since 0.5.1
+ * @see co.aikar.commands.JavacordOptions#responseBudget(long, TimeUnit)
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ResponseBudget {
+    long value();
+    TimeUnit unit() default TimeUnit.MILLISECONDS;
+    boolean ephemeral() default false;
+}
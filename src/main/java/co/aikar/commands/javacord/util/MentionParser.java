@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands.javacord.util;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Parses the IDs out of Discord mentions in a single pass, without regular expressions or allocations.
+ *
+ * @since 0.5.1
+ */
+public final class MentionParser {
+
+    /**
+     * The value returned when the input is not a mention of the requested kind.
+     */
+    public static final long NONE = -1L;
+
+    // Long.MAX_VALUE has 19 digits
+    private static final int MAX_SNOWFLAKE_DIGITS = 19;
+
+    private MentionParser() {}
+
+    /**
+     * Parses a user mention, either {@code <@id>} or {@code <@!id>}.
+     *
+     * @param str the string to parse.
+     *
+     * @return the ID of the mentioned user, or {@link #NONE} if the string is not a user mention.
+     */
+    public static long parseUserMention(@NotNull CharSequence str) {
+        if (!isEnclosed(str, 3) || str.charAt(1) != '@') {
+            return NONE;
+        }
+        int start = str.charAt(2) == '!' ? 3 : 2;
+        return parseSnowflake(str, start, str.length() - 1);
+    }
+
+    /**
+     * Parses a channel mention, {@code <#id>}.
+     *
+     * @param str the string to parse.
+     *
+     * @return the ID of the mentioned channel, or {@link #NONE} if the string is not a channel mention.
+     */
+    public static long parseChannelMention(@NotNull CharSequence str) {
+        if (!isEnclosed(str, 3) || str.charAt(1) != '#') {
+            return NONE;
+        }
+        return parseSnowflake(str, 2, str.length() - 1);
+    }
+
+    /**
+     * Parses a role mention, {@code <@&id>}.
+     *
+     * @param str the string to parse.
+     *
+     * @return the ID of the mentioned role, or {@link #NONE} if the string is not a role mention.
+     */
+    public static long parseRoleMention(@NotNull CharSequence str) {
+        if (!isEnclosed(str, 4) || str.charAt(1) != '@' || str.charAt(2) != '&') {
+            return NONE;
+        }
+        return parseSnowflake(str, 3, str.length() - 1);
+    }
+
+    /**
+     * Parses a custom emoji, either {@code <:name:id>} or, if it's animated, {@code <a:name:id>}.
+     *
+     * @param str the string to parse.
+     *
+     * @return the ID of the custom emoji, or {@link #NONE} if the string is not a custom emoji.
+     */
+    public static long parseCustomEmoji(@NotNull CharSequence str) {
+        if (!isEnclosed(str, 5)) {
+            return NONE;
+        }
+        int index = str.charAt(1) == 'a' ? 2 : 1;
+        if (str.charAt(index) != ':') {
+            return NONE;
+        }
+
+        int end = str.length() - 1;
+        int nameStart = ++index;
+        while (index < end && isNameChar(str.charAt(index))) {
+            index++;
+        }
+        if (index == nameStart || index == end || str.charAt(index) != ':') {
+            return NONE;
+        }
+        return parseSnowflake(str, index + 1, end);
+    }
+
+    /**
+     * Parses a snowflake, the decimal representation of a Discord ID.
+     *
+     * @param str the string to parse.
+     * @param start the index of the first digit.
+     * @param end the index after the last digit.
+     *
+     * @return the parsed ID, or {@link #NONE} if the range is empty, contains anything but digits or doesn't fit in a
+     * {@code long}.
+     */
+    public static long parseSnowflake(@NotNull CharSequence str, int start, int end) {
+        int length = end - start;
+        if (length <= 0 || length > MAX_SNOWFLAKE_DIGITS) {
+            return NONE;
+        }
+
+        long value = 0L;
+        for (int i = start; i < end; i++) {
+            int digit = str.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return NONE;
+            }
+            if (value > (Long.MAX_VALUE - digit) / 10) {
+                return NONE;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static boolean isEnclosed(@NotNull CharSequence str, int minLength) {
+        int length = str.length();
+        return length >= minLength && str.charAt(0) == '<' && str.charAt(length - 1) == '>';
+    }
+
+    private static boolean isNameChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+}
@@ -22,7 +22,6 @@ import java.util.regex.Pattern;
 
 public final class StringUtils {
 
-    private static final Pattern SPACE_MATCHER = Pattern.compile(".*\\s.*");
     private static final Pattern SPACE_SPLITTER = Pattern.compile("\\s+");
     private static final Pattern EQUALS_MATCHER = Pattern.compile(".*=.*");
     private static final Pattern EQUALS_SPLITTER = Pattern.compile("=");
@@ -35,7 +34,7 @@ public final class StringUtils {
      * @return {@code true} if the given string contains whitespace, {@code false} otherwise.
      */
     public static boolean containsWhitespace(@NotNull String str) {
-        return SPACE_MATCHER.matcher(str).matches();
+        return indexOfWhitespace(str, 0) != -1;
     }
 
     /**
@@ -70,4 +69,90 @@ public final class StringUtils {
     public static String[] splitOnEquals(@NotNull String str) {
         return EQUALS_SPLITTER.split(str);
     }
+
+    /**
+     * Checks if the first word of the given string, which ends at the first whitespace character, equals the given word.
+     *
+     * @param str the string to check.
+     * @param word the word to compare the first word with.
+     *
+     * @return {@code true} if the first word of the given string equals the given word, {@code false} otherwise.
+     */
+    public static boolean firstWordEquals(@NotNull String str, @NotNull String word) {
+        int end = indexOfWhitespace(str, 0);
+        int length = end != -1 ? end : str.length();
+        return length == word.length() && str.startsWith(word);
+    }
+
+    /**
+     * Removes the first word of the given string, joining the remaining words with a single space. The result is the
+     * same as splitting the string on whitespace and joining all but the first part, without compiling a pattern or
+     * creating intermediate arrays.
+     *
+     * @param str the string to remove the first word from.
+     *
+     * @return the remaining words, or an empty string if the given string has only one word.
+     */
+    @NotNull
+    public static String removeFirstWord(@NotNull String str) {
+        int start = indexOfWhitespace(str, 0);
+        if (start == -1) {
+            return "";
+        }
+        start = skipWhitespace(str, start);
+        int end = indexOfWhitespace(str, start);
+        if (end == -1) {
+            return str.substring(start);
+        }
+
+        StringBuilder builder = new StringBuilder(str.length() - start);
+        while (start < str.length()) {
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            end = end != -1 ? end : str.length();
+            builder.append(str, start, end);
+            start = skipWhitespace(str, end);
+            end = indexOfWhitespace(str, start);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Counts the words of the given string that follow its first word.
+     *
+     * @param str the string to count the words of.
+     *
+     * @return the amount of words after the first word.
+     */
+    public static int countWordsAfterFirst(@NotNull String str) {
+        int index = indexOfWhitespace(str, 0);
+        int count = 0;
+        while (index != -1) {
+            index = skipWhitespace(str, index);
+            if (index == str.length()) {
+                break;
+            }
+            count++;
+            index = indexOfWhitespace(str, index);
+        }
+        return count;
+    }
+
+    private static int indexOfWhitespace(@NotNull String str, int from) {
+        for (int i = from; i < str.length(); i++) {
+            if (Character.isWhitespace(str.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipWhitespace(@NotNull String str, int from) {
+        int i = from;
+        while (i < str.length() && Character.isWhitespace(str.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
 }
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands;
+
+import org.javacord.api.DiscordApi;
+import org.javacord.api.entity.channel.TextChannel;
+import org.javacord.api.entity.server.Server;
+import org.javacord.api.event.interaction.InteractionCreateEvent;
+import org.javacord.api.event.message.MessageCreateEvent;
+import org.javacord.api.event.server.ServerLeaveEvent;
+import org.javacord.api.listener.server.ServerLeaveListener;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CachedCommandConfigProviderTest {
+
+    private CountingProvider provider;
+    private CachedCommandConfigProvider cache;
+
+    @Before
+    public void setUp() {
+        provider = new CountingProvider();
+        cache = new CachedCommandConfigProvider(provider, 100L, 1L, TimeUnit.MINUTES);
+    }
+
+    @Test
+    public void countsHitsAndMisses() {
+        assertSame(provider.config, cache.provide(serverEvent(1L)));
+        assertSame(provider.config, cache.provide(serverEvent(1L)));
+        assertSame(provider.config, cache.provide(serverEvent(1L)));
+
+        assertEquals(1, provider.calls);
+        assertEquals(1L, cache.getMissCount());
+        assertEquals(2L, cache.getHitCount());
+        assertEquals(1L, cache.getSize());
+    }
+
+    @Test
+    public void keepsServersApart() {
+        cache.provide(serverEvent(1L));
+        cache.provide(serverEvent(2L));
+        cache.provide(serverEvent(1L));
+
+        assertEquals(2, provider.calls);
+        assertEquals(2L, cache.getSize());
+    }
+
+    @Test
+    public void invalidatesServer() {
+        cache.provide(serverEvent(1L));
+        cache.provide(serverEvent(2L));
+        cache.invalidate(1L);
+
+        cache.provide(serverEvent(1L));
+        cache.provide(serverEvent(2L));
+        assertEquals(3, provider.calls);
+    }
+
+    @Test
+    public void keysPrivateMessagesByChannel() {
+        cache.provide(privateEvent(1L));
+        cache.provide(privateEvent(1L));
+        cache.provide(serverEvent(1L));
+        assertEquals(2, provider.calls);
+
+        // Invalidating the server with the same ID leaves the private channel alone
+        cache.invalidate(1L);
+        cache.provide(privateEvent(1L));
+        assertEquals(2, provider.calls);
+
+        cache.invalidatePrivateChannel(1L);
+        cache.provide(privateEvent(1L));
+        assertEquals(3, provider.calls);
+    }
+
+    @Test
+    public void invalidatesAll() {
+        cache.provide(serverEvent(1L));
+        cache.provide(privateEvent(2L));
+        cache.invalidateAll();
+
+        assertEquals(0L, cache.getSize());
+        cache.provide(serverEvent(1L));
+        cache.provide(privateEvent(2L));
+        assertEquals(4, provider.calls);
+    }
+
+    @Test
+    public void cachesNullConfigs() {
+        provider.config = null;
+
+        assertNull(cache.provide(serverEvent(1L)));
+        assertNull(cache.provide(serverEvent(1L)));
+        assertEquals(1, provider.calls);
+        assertEquals(1L, cache.getHitCount());
+    }
+
+    @Test
+    public void invalidatesServerWhenLeavingIt() {
+        AtomicReference<ServerLeaveListener> listener = new AtomicReference<>();
+        FakeDiscord.Answer addListener = args -> {
+            listener.set((ServerLeaveListener) args[0]);
+            return null;
+        };
+        DiscordApi api = FakeDiscord.api(Collections.singletonMap("addServerLeaveListener", addListener));
+        MessageCommandManager manager = new JavacordOptions()
+                .cacheConfigs(100L, 1L, TimeUnit.MINUTES)
+                .messageConfigProvider(provider)
+                .executionMode(CommandExecutionMode.INLINE)
+                .createMessageManager(api);
+        assertTrue(manager.getConfigProvider() instanceof CachedCommandConfigProvider);
+        CachedCommandConfigProvider managerCache = (CachedCommandConfigProvider) manager.getConfigProvider();
+        assertSame(provider, managerCache.getProvider());
+
+        managerCache.provide(serverEvent(1L));
+        managerCache.provide(serverEvent(2L));
+        listener.get().onServerLeave(FakeDiscord.stub(ServerLeaveEvent.class,
+                Collections.<String, Object>singletonMap("getServer", server(1L))));
+
+        managerCache.provide(serverEvent(1L));
+        managerCache.provide(serverEvent(2L));
+        assertEquals(3, provider.calls);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsEmptyCache() {
+        new JavacordOptions().cacheConfigs(0L, 1L, TimeUnit.MINUTES);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsImmediateExpiry() {
+        new JavacordOptions().cacheConfigs(100L, 0L, TimeUnit.MINUTES);
+    }
+
+    @NotNull
+    private static Server server(long id) {
+        return FakeDiscord.stub(Server.class, Collections.<String, Object>singletonMap("getId", id));
+    }
+
+    @NotNull
+    private static MessageCreateEvent serverEvent(long serverId) {
+        Map<String, Object> answers = new HashMap<>();
+        answers.put("getServer", Optional.of(server(serverId)));
+        answers.put("getChannel", FakeDiscord.stub(TextChannel.class, Collections.<String, Object>singletonMap("getId", serverId * 10)));
+        return FakeDiscord.stub(MessageCreateEvent.class, answers);
+    }
+
+    @NotNull
+    private static MessageCreateEvent privateEvent(long channelId) {
+        Map<String, Object> answers = new HashMap<>();
+        answers.put("getServer", Optional.empty());
+        answers.put("getChannel", FakeDiscord.stub(TextChannel.class, Collections.<String, Object>singletonMap("getId", channelId)));
+        answers.put("isPrivateMessage", true);
+        return FakeDiscord.stub(MessageCreateEvent.class, answers);
+    }
+
+    private static class CountingProvider implements CommandConfigProvider {
+
+        private CommandConfig config = new JavacordCommandConfig();
+        private int calls;
+
+        @Override
+        public CommandConfig provide(@NotNull MessageCreateEvent event) {
+            calls++;
+            return config;
+        }
+
+        @Override
+        public CommandConfig provide(@NotNull InteractionCreateEvent event) {
+            calls++;
+            return config;
+        }
+    }
+}
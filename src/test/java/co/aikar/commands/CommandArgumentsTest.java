@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CommandArgumentsTest {
+
+    @Test
+    public void splitsOnSpaces() {
+        CommandArguments args = CommandArguments.tokenize("ping one two", 0);
+        assertArrayEquals(new String[] { "ping", "one", "two" }, args.toArray(0));
+    }
+
+    @Test
+    public void startsAtOffset() {
+        CommandArguments args = CommandArguments.tokenize("!ping one", 1);
+        assertArrayEquals(new String[] { "ping", "one" }, args.toArray(0));
+        assertEquals(1, args.start(0));
+        assertEquals(5, args.end(0));
+    }
+
+    @Test
+    public void emptyInputHasNoArguments() {
+        assertTrue(CommandArguments.tokenize("", 0).isEmpty());
+        assertTrue(CommandArguments.tokenize("!", 1).isEmpty());
+        assertTrue(CommandArguments.tokenize("   ", 0).isEmpty());
+        assertArrayEquals(new String[0], CommandArguments.tokenize("", 0).toArray(0));
+    }
+
+    @Test
+    public void skipsRepeatedAndTrailingSpaces() {
+        CommandArguments args = CommandArguments.tokenize("  ping   one  two   ", 0);
+        assertEquals(3, args.size());
+        assertArrayEquals(new String[] { "ping", "one", "two" }, args.toArray(0));
+    }
+
+    @Test
+    public void readsQuotedArgumentAsOne() {
+        CommandArguments args = CommandArguments.tokenize("say \"hello there\" world", 0);
+        assertArrayEquals(new String[] { "say", "hello there", "world" }, args.toArray(0));
+    }
+
+    @Test
+    public void readsQuotedArgumentAtEnd() {
+        CommandArguments args = CommandArguments.tokenize("say \"hello there\"", 0);
+        assertArrayEquals(new String[] { "say", "hello there" }, args.toArray(0));
+    }
+
+    @Test
+    public void readsEmptyQuotes() {
+        CommandArguments args = CommandArguments.tokenize("say \"\" world", 0);
+        assertArrayEquals(new String[] { "say", "", "world" }, args.toArray(0));
+    }
+
+    @Test
+    public void keepsQuotesThatDoNotEndTheArgument() {
+        CommandArguments args = CommandArguments.tokenize("say \"a b\"c", 0);
+        assertArrayEquals(new String[] { "say", "\"a", "b\"c" }, args.toArray(0));
+    }
+
+    @Test
+    public void keepsUnterminatedQuote() {
+        CommandArguments args = CommandArguments.tokenize("say \"hello there", 0);
+        assertArrayEquals(new String[] { "say", "\"hello", "there" }, args.toArray(0));
+    }
+
+    @Test
+    public void keepsQuoteInsideArgument() {
+        CommandArguments args = CommandArguments.tokenize("say it\"s", 0);
+        assertArrayEquals(new String[] { "say", "it\"s" }, args.toArray(0));
+    }
+
+    @Test
+    public void growsPastInitialCapacity() {
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 40; i++) {
+            input.append(i).append(' ');
+        }
+        CommandArguments args = CommandArguments.tokenize(input.toString(), 0);
+        assertEquals(40, args.size());
+        assertEquals("39", args.get(39));
+    }
+
+    @Test
+    public void readsArgumentRegions() {
+        CommandArguments args = CommandArguments.tokenize("ping abc", 0);
+        assertEquals(3, args.length(1));
+        assertEquals('b', args.charAt(1, 1));
+        assertEquals("ping abc", args.getInput());
+    }
+
+    @Test
+    public void toArrayCopiesFromIndex() {
+        CommandArguments args = CommandArguments.tokenize("ping one two", 0);
+        assertArrayEquals(new String[] { "one", "two" }, args.toArray(1));
+        assertArrayEquals(new String[0], args.toArray(3));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void rejectsIndexOutOfBounds() {
+        CommandArguments.tokenize("ping", 0).get(1);
+    }
+}
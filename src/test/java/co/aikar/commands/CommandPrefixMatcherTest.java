@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CommandPrefixMatcherTest {
+
+    @Test
+    public void matchesLongestPrefix() {
+        CommandPrefixMatcher matcher = CommandPrefixMatcher.compile(Arrays.asList("!", "!!", "bot "));
+        assertEquals(1, matcher.match("!ping"));
+        assertEquals(2, matcher.match("!!ping"));
+        assertEquals(4, matcher.match("bot ping"));
+    }
+
+    @Test
+    public void fallsBackToShorterPrefix() {
+        CommandPrefixMatcher matcher = CommandPrefixMatcher.compile(Arrays.asList("b", "bot "));
+        assertEquals(1, matcher.match("bo ping"));
+        assertEquals(1, matcher.match("b"));
+    }
+
+    @Test
+    public void doesNotMatchOtherContent() {
+        CommandPrefixMatcher matcher = CommandPrefixMatcher.compile(Arrays.asList("!", "bot "));
+        assertEquals(-1, matcher.match("ping"));
+        assertEquals(-1, matcher.match("bot"));
+        assertEquals(-1, matcher.match("Bot ping"));
+        assertEquals(-1, matcher.match(""));
+    }
+
+    @Test
+    public void emptyPrefixMatchesEverything() {
+        CommandPrefixMatcher matcher = CommandPrefixMatcher.compile(Arrays.asList("", "!"));
+        assertEquals(0, matcher.match("ping"));
+        assertEquals(1, matcher.match("!ping"));
+        assertTrue(matcher.mayMatch("ping"));
+        assertTrue(matcher.mayMatch(""));
+    }
+
+    @Test
+    public void ignoresNullPrefixes() {
+        CommandPrefixMatcher matcher = CommandPrefixMatcher.compile(Arrays.asList(null, "!"));
+        assertEquals(1, matcher.match("!ping"));
+        assertEquals(-1, matcher.match("ping"));
+    }
+
+    @Test
+    public void mayMatchChecksFirstCharacter() {
+        CommandPrefixMatcher matcher = CommandPrefixMatcher.compile(Arrays.asList("!", "?", "~", "\u00e9"));
+        assertTrue(matcher.mayMatch("!ping"));
+        assertTrue(matcher.mayMatch("?ping"));
+        assertTrue(matcher.mayMatch("~ping"));
+        assertTrue(matcher.mayMatch("\u00e9ping"));
+        assertFalse(matcher.mayMatch("ping"));
+        assertFalse(matcher.mayMatch("#ping"));
+        assertFalse(matcher.mayMatch("\u00e8ping"));
+        assertFalse(matcher.mayMatch(""));
+    }
+
+    @Test
+    public void noPrefixesMatchNothing() {
+        CommandPrefixMatcher matcher = CommandPrefixMatcher.compile(Collections.emptyList());
+        assertEquals(-1, matcher.match("!ping"));
+        assertFalse(matcher.mayMatch("!ping"));
+    }
+
+    @Test
+    public void cachesByContent() {
+        CommandPrefixMatcher matcher = CommandPrefixMatcher.of(Arrays.asList("cache-test!", "cache-test?"));
+        assertSame(matcher, CommandPrefixMatcher.of(new ArrayList<>(Arrays.asList("cache-test!", "cache-test?"))));
+        assertNotSame(matcher, CommandPrefixMatcher.of(Arrays.asList("cache-test!")));
+    }
+
+    @Test
+    public void cachedMatcherIsNotAffectedByChangesToList() {
+        List<String> prefixes = new ArrayList<>(Arrays.asList("mutable!"));
+        CommandPrefixMatcher matcher = CommandPrefixMatcher.of(prefixes);
+        prefixes.add("mutable?");
+        CommandPrefixMatcher updated = CommandPrefixMatcher.of(prefixes);
+        assertNotSame(matcher, updated);
+        assertEquals(-1, matcher.match("mutable?ping"));
+        assertEquals(8, updated.match("mutable?ping"));
+    }
+
+    @Test
+    public void recompilesTrackedListWhenModified() {
+        CommandPrefixList prefixes = new CommandPrefixList("!");
+        CommandPrefixMatcher matcher = CommandPrefixMatcher.of(prefixes);
+        assertSame(matcher, CommandPrefixMatcher.of(prefixes));
+        assertTrue(matcher.isCompiledFrom(prefixes));
+
+        prefixes.add("?");
+        assertFalse(matcher.isCompiledFrom(prefixes));
+        CommandPrefixMatcher updated = CommandPrefixMatcher.of(prefixes);
+        assertNotSame(matcher, updated);
+        assertEquals(1, updated.match("?ping"));
+    }
+}
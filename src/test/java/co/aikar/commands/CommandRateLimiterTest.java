@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands;
+
+import co.aikar.commands.javacord.annotation.RateLimit;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CommandRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void allowsBurstOfUses() {
+        CommandRateLimiter limiter = limiter(3, 3L);
+        long now = System.nanoTime();
+        assertEquals(0L, limiter.tryAcquire(1L, now));
+        assertEquals(0L, limiter.tryAcquire(1L, now));
+        assertEquals(0L, limiter.tryAcquire(1L, now));
+        assertEquals(SECOND, limiter.tryAcquire(1L, now));
+    }
+
+    @Test
+    public void refillsEvenlyOverPeriod() {
+        CommandRateLimiter limiter = limiter(2, 1L);
+        long now = System.nanoTime();
+        limiter.tryAcquire(1L, now);
+        limiter.tryAcquire(1L, now);
+
+        assertEquals(SECOND / 2, limiter.tryAcquire(1L, now));
+        assertEquals(SECOND / 4, limiter.tryAcquire(1L, now + SECOND / 4));
+        assertEquals(0L, limiter.tryAcquire(1L, now + SECOND / 2));
+        assertTrue(limiter.tryAcquire(1L, now + SECOND / 2) > 0L);
+    }
+
+    @Test
+    public void refillsCompletelyAfterIdling() {
+        CommandRateLimiter limiter = limiter(2, 1L);
+        long now = System.nanoTime();
+        limiter.tryAcquire(1L, now);
+        limiter.tryAcquire(1L, now);
+
+        long later = now + 10 * SECOND;
+        assertEquals(0L, limiter.tryAcquire(1L, later));
+        assertEquals(0L, limiter.tryAcquire(1L, later));
+        assertTrue(limiter.tryAcquire(1L, later) > 0L);
+    }
+
+    @Test
+    public void keepsKeysApart() {
+        CommandRateLimiter limiter = limiter(1, 1L);
+        long now = System.nanoTime();
+        assertEquals(0L, limiter.tryAcquire(1L, now));
+        assertTrue(limiter.tryAcquire(1L, now) > 0L);
+        assertEquals(0L, limiter.tryAcquire(2L, now));
+    }
+
+    @Test
+    public void releaseGivesBackUse() {
+        CommandRateLimiter limiter = limiter(1, 1L);
+        long now = System.nanoTime();
+        assertEquals(0L, limiter.tryAcquire(1L, now));
+        limiter.release(1L);
+        assertEquals(0L, limiter.tryAcquire(1L, now));
+        assertTrue(limiter.tryAcquire(1L, now) > 0L);
+    }
+
+    @Test
+    public void releaseIgnoresUnknownKey() {
+        CommandRateLimiter limiter = limiter(1, 1L);
+        limiter.release(1L);
+        assertEquals(0, limiter.size());
+    }
+
+    @Test
+    public void evictsIdleBuckets() {
+        CommandRateLimiter limiter = limiter(1, 1L);
+        long now = System.nanoTime();
+        for (long key = 0L; key < 100L; key++) {
+            limiter.tryAcquire(key, now);
+        }
+        assertEquals(100, limiter.size());
+
+        // Adding buckets after the sweep interval drops the ones that are full again
+        long later = now + 10 * SECOND;
+        for (long key = 100L; key < 1100L; key++) {
+            limiter.tryAcquire(key, later);
+        }
+        assertEquals(1000, limiter.size());
+    }
+
+    @Test
+    public void keepsBucketsThatAreNotFull() {
+        CommandRateLimiter limiter = limiter(1, 1L);
+        long now = System.nanoTime();
+        for (long key = 0L; key < 100L; key++) {
+            limiter.tryAcquire(key, now);
+        }
+
+        // The first ten buckets are used again right before the sweep, so they aren't full when it happens
+        long later = now + 2 * SECOND;
+        for (long key = 0L; key < 10L; key++) {
+            assertEquals(0L, limiter.tryAcquire(key, later));
+        }
+        for (long key = 100L; key < 1100L; key++) {
+            limiter.tryAcquire(key, later);
+        }
+        assertEquals(1010, limiter.size());
+        assertTrue(limiter.tryAcquire(0L, later) > 0L);
+    }
+
+    @Test
+    public void givesBackEarlierLimitersWhenLaterOneIsExceeded() {
+        MessageCommandManager manager = new JavacordOptions()
+                .executionMode(CommandExecutionMode.INLINE)
+                .createMessageManager(FakeDiscord.api());
+        MessageCommandEvent event = new MessageCommandEvent(manager, FakeDiscord.messageEvent(manager.getApi(), "!ping"));
+        CommandRateLimiter burst = limiter(5, 60L);
+        CommandRateLimiter cooldown = limiter(1, 60L);
+        CommandRateLimiter[] limiters = { burst, cooldown };
+
+        manager.checkRateLimits(limiters, event);
+        try {
+            manager.checkRateLimits(limiters, event);
+            fail("Expected the cooldown to be exceeded");
+        } catch (ConditionFailedException expected) {
+            // The use taken from the burst limiter must have been given back
+        }
+
+        long now = System.nanoTime();
+        for (int i = 0; i < 4; i++) {
+            assertEquals(0L, burst.tryAcquire(FakeDiscord.USER_ID, now));
+        }
+        assertTrue(burst.tryAcquire(FakeDiscord.USER_ID, now) > 0L);
+    }
+
+    @Test
+    public void releasesAllLimiters() {
+        MessageCommandManager manager = new JavacordOptions()
+                .executionMode(CommandExecutionMode.INLINE)
+                .createMessageManager(FakeDiscord.api());
+        MessageCommandEvent event = new MessageCommandEvent(manager, FakeDiscord.messageEvent(manager.getApi(), "!ping"));
+        CommandRateLimiter first = limiter(1, 60L);
+        CommandRateLimiter second = limiter(1, 60L);
+        CommandRateLimiter[] limiters = { first, second };
+
+        manager.checkRateLimits(limiters, event);
+        manager.releaseRateLimits(limiters, event);
+        manager.checkRateLimits(limiters, event);
+    }
+
+    private static CommandRateLimiter limiter(int uses, long seconds) {
+        return new CommandRateLimiter(RateLimit.Scope.USER, JavacordMessageKeys.COMMAND_RATE_LIMITED, uses, seconds, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,360 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands;
+
+import org.javacord.api.DiscordApi;
+import org.javacord.api.entity.channel.PrivateChannel;
+import org.javacord.api.entity.channel.TextChannel;
+import org.javacord.api.entity.message.Message;
+import org.javacord.api.entity.message.MessageAuthor;
+import org.javacord.api.entity.user.User;
+import org.javacord.api.event.interaction.SlashCommandCreateEvent;
+import org.javacord.api.event.message.MessageCreateEvent;
+import org.javacord.api.interaction.ApplicationCommand;
+import org.javacord.api.interaction.SlashCommand;
+import org.javacord.api.interaction.SlashCommandInteraction;
+import org.javacord.api.interaction.SlashCommandInteractionOption;
+import org.javacord.api.util.concurrent.ThreadPool;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * An in-process stand-in for the parts of Javacord the command managers use, so commands can be registered and
+ * dispatched without connecting to Discord.
+ * <p>
+ * Every stub is a dynamic proxy. Methods that have been given an answer return it; all other methods return an empty
+ * value of their return type: zero, {@code false}, an empty string, {@code Optional} or collection, a completed future,
+ * or another stub for interface types. Answers that are an {@link Answer} are computed from the method's arguments.
+ *
+ * @since 0.5.1
+ */
+final class FakeDiscord {
+
+    static final long CLIENT_ID = 1L;
+    static final long SERVER_ID = 2L;
+    static final long CHANNEL_ID = 3L;
+    static final long USER_ID = 4L;
+
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "fake-discord-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final AtomicLong COMMAND_IDS = new AtomicLong(1000L);
+
+    private FakeDiscord() {}
+
+    /**
+     * Creates a new fake {@link DiscordApi}. Listeners added to it are discarded, so events have to be passed to the
+     * manager directly. Bulk overwrites of application commands complete with a registered command for every builder.
+     *
+     * @return the created api.
+     */
+    @NotNull
+    static DiscordApi api() {
+        return api(Collections.emptyMap());
+    }
+
+    /**
+     * Creates a new fake {@link DiscordApi} like {@link #api()}, with additional answers that override the default
+     * ones, for example to capture listeners.
+     *
+     * @param extraAnswers the additional answers, by method name.
+     *
+     * @return the created api.
+     */
+    @NotNull
+    static DiscordApi api(@NotNull Map<String, Object> extraAnswers) {
+        Map<String, Object> threadPool = new HashMap<>();
+        threadPool.put("getScheduler", SCHEDULER);
+        threadPool.put("getExecutorService", SCHEDULER);
+
+        Map<String, Object> answers = new HashMap<>();
+        answers.put("getClientId", CLIENT_ID);
+        answers.put("getYourself", user());
+        answers.put("getThreadPool", stub(ThreadPool.class, threadPool));
+        // The builders are the last argument, after the server for server commands
+        Answer bulkOverwrite = args -> CompletableFuture.completedFuture(registered((Collection<?>) args[args.length - 1]));
+        answers.put("bulkOverwriteGlobalApplicationCommands", bulkOverwrite);
+        answers.put("bulkOverwriteServerApplicationCommands", bulkOverwrite);
+        answers.putAll(extraAnswers);
+        return stub(DiscordApi.class, answers);
+    }
+
+    /**
+     * Creates a new fake {@link MessageCreateEvent} for a message sent by a regular user in a private channel.
+     *
+     * @param api the api the event belongs to.
+     * @param content the content of the message.
+     *
+     * @return the created event.
+     */
+    @NotNull
+    static MessageCreateEvent messageEvent(@NotNull DiscordApi api, @NotNull String content) {
+        Map<String, Object> author = new HashMap<>();
+        author.put("getId", USER_ID);
+        author.put("isRegularUser", true);
+        author.put("isUser", true);
+        author.put("asUser", Optional.of(user()));
+
+        Map<String, Object> message = new HashMap<>();
+        message.put("getApi", api);
+        message.put("getContent", content);
+        message.put("getChannel", channel());
+        message.put("getServer", Optional.empty());
+
+        Map<String, Object> answers = new HashMap<>();
+        answers.put("getApi", api);
+        answers.put("getMessage", stub(Message.class, message));
+        answers.put("getMessageContent", content);
+        answers.put("getMessageAuthor", stub(MessageAuthor.class, author));
+        answers.put("getChannel", channel());
+        answers.put("getServer", Optional.empty());
+        answers.put("isPrivateMessage", true);
+        return stub(MessageCreateEvent.class, answers);
+    }
+
+    /**
+     * Creates a new fake {@link SlashCommandCreateEvent} for a command used by a user in a private channel.
+     *
+     * @param api the api the event belongs to.
+     * @param commandName the name of the invoked root command.
+     * @param fullCommandName the full name of the invoked command, including its subcommand group and subcommand.
+     * @param arguments the arguments of the interaction, created with {@link #option(String, String)}.
+     *
+     * @return the created event.
+     */
+    @NotNull
+    static SlashCommandCreateEvent slashEvent(@NotNull DiscordApi api, @NotNull String commandName, @NotNull String fullCommandName,
+                                              @NotNull SlashCommandInteractionOption... arguments) {
+        Map<String, Object> interaction = new HashMap<>();
+        interaction.put("getApi", api);
+        interaction.put("getCommandName", commandName);
+        interaction.put("getFullCommandName", fullCommandName);
+        interaction.put("getArguments", Arrays.asList(arguments));
+        interaction.put("getOptions", Arrays.asList(arguments));
+        interaction.put("getUser", user());
+        interaction.put("getChannel", Optional.of(channel()));
+        interaction.put("getServer", Optional.empty());
+        Object slashInteraction = stub(SlashCommandInteraction.class, interaction);
+
+        Map<String, Object> answers = new HashMap<>();
+        answers.put("getApi", api);
+        answers.put("getInteraction", slashInteraction);
+        answers.put("getSlashCommandInteraction", slashInteraction);
+        return stub(SlashCommandCreateEvent.class, answers);
+    }
+
+    /**
+     * Creates a new fake string option of a slash command interaction.
+     *
+     * @param name the name of the option.
+     * @param value the value of the option.
+     *
+     * @return the created option.
+     */
+    @NotNull
+    static SlashCommandInteractionOption option(@NotNull String name, @NotNull String value) {
+        Map<String, Object> answers = new HashMap<>();
+        answers.put("getName", name);
+        answers.put("getStringValue", Optional.of(value));
+        answers.put("getStringRepresentationValue", Optional.of(value));
+        answers.put("getOptions", Collections.emptyList());
+        answers.put("isSubcommandOrGroup", false);
+        return stub(SlashCommandInteractionOption.class, answers);
+    }
+
+    private static Set<ApplicationCommand> registered(@NotNull Collection<?> builders) {
+        Set<ApplicationCommand> registered = new LinkedHashSet<>();
+        for (Object builder : builders) {
+            long id = COMMAND_IDS.getAndIncrement();
+            Map<String, Object> answers = new HashMap<>();
+            answers.put("getId", id);
+            answers.put("getIdAsString", String.valueOf(id));
+            answers.put("getName", builderName(builder));
+            registered.add(stub(SlashCommand.class, answers));
+        }
+        return registered;
+    }
+
+    // Javacord's builders don't expose their name, only the delegate that builds the request body has it
+    @NotNull
+    private static String builderName(@NotNull Object builder) {
+        try {
+            Object delegate = builder.getClass().getMethod("getDelegate").invoke(builder);
+            for (Class<?> type = delegate.getClass(); type != null; type = type.getSuperclass()) {
+                try {
+                    Field field = type.getDeclaredField("name");
+                    field.setAccessible(true);
+                    return String.valueOf(field.get(delegate));
+                } catch (NoSuchFieldException ignored) {
+                    // Declared by a superclass
+                }
+            }
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Cannot get the name of " + builder.getClass().getName(), ex);
+        }
+        throw new IllegalStateException("Cannot get the name of " + builder.getClass().getName());
+    }
+
+    private static User user() {
+        Map<String, Object> answers = new HashMap<>();
+        answers.put("getId", USER_ID);
+        answers.put("getIdAsString", String.valueOf(USER_ID));
+        answers.put("getName", "user");
+        answers.put("isBot", false);
+        return stub(User.class, answers);
+    }
+
+    private static TextChannel channel() {
+        Map<String, Object> answers = new HashMap<>();
+        answers.put("getId", CHANNEL_ID);
+        answers.put("getIdAsString", String.valueOf(CHANNEL_ID));
+        return stub(PrivateChannel.class, answers);
+    }
+
+    /**
+     * Creates a stub of the given interface.
+     *
+     * @param type the interface to stub.
+     * @param answers the values to return, by method name.
+     *
+     * @return the created stub.
+     */
+    @NotNull
+    static <T> T stub(@NotNull Class<T> type, @NotNull Map<String, Object> answers) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, new Answers(type, answers)));
+    }
+
+    @Nullable
+    private static Object emptyValue(@NotNull Type type) {
+        Class<?> raw = rawType(type);
+        if (raw == void.class || raw == Void.class) {
+            return null;
+        }
+        if (raw == boolean.class) {
+            return false;
+        }
+        if (raw == char.class) {
+            return '\0';
+        }
+        if (raw.isPrimitive()) {
+            return raw == long.class ? (Object) 0L : raw == int.class ? (Object) 0 : raw == double.class ? (Object) 0.0D
+                    : raw == float.class ? (Object) 0.0F : raw == short.class ? (Object) (short) 0 : (Object) (byte) 0;
+        }
+        if (raw == String.class) {
+            return "";
+        }
+        if (raw == Optional.class) {
+            return Optional.empty();
+        }
+        if (raw == OptionalLong.class) {
+            return OptionalLong.empty();
+        }
+        if (raw == OptionalInt.class) {
+            return OptionalInt.empty();
+        }
+        if (raw == CompletableFuture.class) {
+            Type value = type instanceof ParameterizedType ? ((ParameterizedType) type).getActualTypeArguments()[0] : Object.class;
+            return CompletableFuture.completedFuture(emptyValue(value));
+        }
+        if (raw.isAssignableFrom(ArrayList.class)) {
+            return new ArrayList<>();
+        }
+        if (raw.isAssignableFrom(HashSet.class)) {
+            return new HashSet<>();
+        }
+        if (raw.isAssignableFrom(HashMap.class)) {
+            return new HashMap<>();
+        }
+        if (raw == Stream.class) {
+            return Stream.empty();
+        }
+        if (raw.isInterface()) {
+            return stub(raw, Collections.emptyMap());
+        }
+        return null;
+    }
+
+    @NotNull
+    private static Class<?> rawType(@NotNull Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        }
+        return Object.class;
+    }
+
+    private static final class Answers implements InvocationHandler {
+
+        private final Class<?> type;
+        private final Map<String, Object> answers;
+
+        private Answers(@NotNull Class<?> type, @NotNull Map<String, Object> answers) {
+            this.type = type;
+            this.answers = answers;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            String name = method.getName();
+            if (method.getDeclaringClass() == Object.class) {
+                switch (name) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return "Fake" + type.getSimpleName();
+                }
+            }
+            if (answers.containsKey(name)) {
+                Object answer = answers.get(name);
+                return answer instanceof Answer ? ((Answer) answer).answer(args) : answer;
+            }
+            return emptyValue(method.getGenericReturnType());
+        }
+    }
+
+    /**
+     * An answer that is computed from the arguments of the invoked method.
+     */
+    @FunctionalInterface
+    interface Answer {
+
+        /**
+         * Computes the value to return.
+         *
+         * @param args the arguments of the invoked method.
+         *
+         * @return the value to return.
+         */
+        @Nullable
+        Object answer(@NotNull Object[] args);
+    }
+}
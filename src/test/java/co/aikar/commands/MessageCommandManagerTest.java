@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands;
+
+import co.aikar.commands.annotation.CommandAlias;
+import co.aikar.commands.annotation.Default;
+import co.aikar.commands.annotation.Subcommand;
+import org.javacord.api.DiscordApi;
+import org.javacord.api.event.interaction.InteractionCreateEvent;
+import org.javacord.api.event.message.MessageCreateEvent;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class MessageCommandManagerTest {
+
+    private DiscordApi api;
+    private MessageCommandManager manager;
+    private LabelCommand command;
+
+    @Before
+    public void setup() {
+        api = FakeDiscord.api();
+        manager = new JavacordOptions()
+                .executionMode(CommandExecutionMode.INLINE)
+                .createMessageManager(api);
+        command = new LabelCommand();
+        manager.registerCommand(command);
+    }
+
+    @Test
+    public void leavesLabelOutOfArguments() {
+        manager.dispatchEvent(FakeDiscord.messageEvent(api, "!labeltest one two"));
+        assertArrayEquals(new String[] { "one", "two" }, command.defaultArgs);
+    }
+
+    @Test
+    public void routesFirstArgumentToSubcommand() {
+        manager.dispatchEvent(FakeDiscord.messageEvent(api, "!labeltest sub value"));
+        assertEquals("value", command.subArg);
+        assertNull(command.defaultArgs);
+    }
+
+    @Test
+    public void skipsEmptyArguments() {
+        manager.dispatchEvent(FakeDiscord.messageEvent(api, "!labeltest  one   two "));
+        assertArrayEquals(new String[] { "one", "two" }, command.defaultArgs);
+    }
+
+    @Test
+    public void ignoresLabelCase() {
+        manager.dispatchEvent(FakeDiscord.messageEvent(api, "!LabelTest one"));
+        assertArrayEquals(new String[] { "one" }, command.defaultArgs);
+    }
+
+    @Test
+    public void filtersOnDefaultPrefixes() {
+        assertTrue(manager.mayBeCommand("!ping"));
+        assertFalse(manager.mayBeCommand("ping"));
+        assertFalse(manager.mayBeCommand(""));
+    }
+
+    @Test
+    public void filtersOnProviderPrefixes() {
+        PrefixProvider provider = new PrefixProvider(Arrays.asList("?"));
+        manager.setConfigProvider(provider);
+        assertTrue(manager.mayBeCommand("!ping"));
+        assertTrue(manager.mayBeCommand("?ping"));
+        assertFalse(manager.mayBeCommand("$ping"));
+
+        provider.prefixes = Arrays.asList("$");
+        assertTrue(manager.mayBeCommand("$ping"));
+        assertFalse(manager.mayBeCommand("?ping"));
+    }
+
+    @Test
+    public void filtersOnModifiedTrackedPrefixes() {
+        JavacordCommandConfig config = new JavacordCommandConfig();
+        config.getCommandPrefixes().clear();
+        config.getCommandPrefixes().add("?");
+        manager.setConfigProvider(new PrefixProvider(config.getCommandPrefixes()));
+        assertTrue(manager.mayBeCommand("?ping"));
+
+        config.getCommandPrefixes().add("$");
+        assertTrue(manager.mayBeCommand("$ping"));
+    }
+
+    @Test
+    public void acceptsEverythingWithoutKnownProviderPrefixes() {
+        manager.setConfigProvider(new PrefixProvider(null));
+        assertTrue(manager.mayBeCommand("ping"));
+    }
+
+    private static final class PrefixProvider implements CommandConfigProvider {
+
+        private List<String> prefixes;
+
+        private PrefixProvider(List<String> prefixes) {
+            this.prefixes = prefixes;
+        }
+
+        @Override
+        public CommandConfig provide(MessageCreateEvent event) {
+            return null;
+        }
+
+        @Override
+        public CommandConfig provide(InteractionCreateEvent event) {
+            return null;
+        }
+
+        @Override
+        public List<String> getPossibleCommandPrefixes() {
+            return prefixes;
+        }
+    }
+
+    @CommandAlias("labeltest")
+    public static class LabelCommand extends BaseCommand {
+
+        private String[] defaultArgs;
+        private String subArg;
+
+        @Default
+        public void onDefault(MessageCommandEvent event, String[] args) {
+            defaultArgs = args;
+        }
+
+        @Subcommand("sub")
+        public void onSub(MessageCommandEvent event, String arg) {
+            subArg = arg;
+        }
+    }
+}
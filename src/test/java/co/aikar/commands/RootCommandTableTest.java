@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class RootCommandTableTest {
+
+    @Test
+    public void emptyTableHasNoCommands() {
+        assertTrue(RootCommandTable.EMPTY.isEmpty());
+        assertTrue(RootCommandTable.EMPTY.values().isEmpty());
+        assertNull(RootCommandTable.EMPTY.get("ping"));
+    }
+
+    @Test
+    public void getsCommandIgnoringCase() {
+        RootCommand ping = command();
+        RootCommandTable table = RootCommandTable.EMPTY.with("Ping", ping);
+        assertFalse(table.isEmpty());
+        assertSame(ping, table.get("ping"));
+        assertSame(ping, table.get("PING"));
+        assertSame(ping, table.get(new StringBuilder("pInG")));
+        assertNull(table.get("pin"));
+        assertNull(table.get("pings"));
+    }
+
+    @Test
+    public void getsCommandFromRegion() {
+        RootCommand ping = command();
+        RootCommandTable table = RootCommandTable.EMPTY.with("ping", ping);
+        String input = "!PING now";
+        assertSame(ping, table.get(input, 1, 5));
+        assertNull(table.get(input, 1, 4));
+        assertNull(table.get(input, 0, 5));
+    }
+
+    @Test
+    public void replacesCommandWithSameName() {
+        RootCommand first = command();
+        RootCommand second = command();
+        RootCommandTable table = RootCommandTable.EMPTY.with("ping", first).with("PING", second);
+        assertSame(second, table.get("ping"));
+        assertEquals(Collections.singletonList(second), table.values());
+    }
+
+    @Test
+    public void leavesOriginalTableUnchanged() {
+        RootCommand ping = command();
+        RootCommandTable table = RootCommandTable.EMPTY.with("ping", ping);
+        RootCommandTable updated = table.with("pong", command());
+        assertNull(table.get("pong"));
+        assertSame(ping, updated.get("ping"));
+        assertEquals(1, table.values().size());
+    }
+
+    @Test
+    public void keepsRegistrationOrderWhileGrowing() {
+        RootCommandTable table = RootCommandTable.EMPTY;
+        List<RootCommand> commands = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            RootCommand command = command();
+            commands.add(command);
+            table = table.with("command" + i, command);
+        }
+        assertEquals(commands, table.values());
+        for (int i = 0; i < 100; i++) {
+            assertSame(commands.get(i), table.get("COMMAND" + i));
+        }
+    }
+
+    @Test
+    public void foldsNonAsciiCase() {
+        RootCommand command = command();
+        RootCommandTable table = RootCommandTable.EMPTY.with("\u00e9t\u00e9", command);
+        assertSame(command, table.get("\u00c9T\u00c9"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void valuesAreUnmodifiable() {
+        RootCommandTable.EMPTY.with("ping", command()).values().set(0, command());
+    }
+
+    private static RootCommand command() {
+        return FakeDiscord.stub(RootCommand.class, Collections.emptyMap());
+    }
+}
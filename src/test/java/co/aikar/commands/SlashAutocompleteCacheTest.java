@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands;
+
+import org.javacord.api.entity.server.Server;
+import org.javacord.api.interaction.AutocompleteInteraction;
+import org.javacord.api.interaction.SlashCommandOptionChoice;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+
+public class SlashAutocompleteCacheTest {
+
+    private final SlashAutocompleteCache cache = new SlashAutocompleteCache(100L, 1L, TimeUnit.MINUTES);
+    private final CountingHandler fruits = new CountingHandler("Apple", "apricot", "avocado", "banana", "blueberry");
+
+    @Test
+    public void servesSamePrefixFromCache() {
+        assertEquals(Arrays.asList("Apple", "apricot"), names(cache.get(context("ap"), fruits)));
+        assertEquals(Arrays.asList("Apple", "apricot"), names(cache.get(context("AP"), fruits)));
+        assertEquals(1, fruits.calls);
+        assertEquals(1L, cache.getMissCount());
+        assertEquals(1L, cache.getHitCount());
+    }
+
+    @Test
+    public void narrowsChoicesOfShorterPrefix() {
+        cache.get(context("a"), fruits);
+        assertEquals(Arrays.asList("Apple", "apricot"), names(cache.get(context("Ap"), fruits)));
+        assertEquals(Arrays.asList("apricot"), names(cache.get(context("apr"), fruits)));
+        assertEquals(Collections.emptyList(), names(cache.get(context("ab"), fruits)));
+        assertEquals(1, fruits.calls);
+        assertEquals(3L, cache.getReuseCount());
+    }
+
+    @Test
+    public void narrowsFromEmptyPrefix() {
+        cache.get(context(""), fruits);
+        assertEquals(Arrays.asList("banana", "blueberry"), names(cache.get(context("b"), fruits)));
+        assertEquals(1, fruits.calls);
+    }
+
+    @Test
+    public void doesNotNarrowCutOffChoices() {
+        String[] names = new String[SortedCompletionProvider.MAX_CHOICES + 10];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = "item" + (char) ('a' + i % 26) + i;
+        }
+        CountingHandler items = new CountingHandler(names);
+
+        assertEquals(SortedCompletionProvider.MAX_CHOICES, cache.get(context("item"), items).size());
+        cache.get(context("itemz"), items);
+        assertEquals(2, items.calls);
+        assertEquals(0L, cache.getReuseCount());
+    }
+
+    @Test
+    public void cutsOffAtMaxChoices() {
+        String[] names = new String[SortedCompletionProvider.MAX_CHOICES + 10];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = "item" + i;
+        }
+        SlashAutocompleteHandler unlimited = context -> choices(names);
+        assertEquals(SortedCompletionProvider.MAX_CHOICES, cache.get(context("item"), unlimited).size());
+    }
+
+    @Test
+    public void keepsServersApart() {
+        cache.get(context("ap"), fruits);
+        cache.get(context("ap", 5L), fruits);
+        cache.get(context("apr", 6L), fruits);
+        assertEquals(3, fruits.calls);
+        assertEquals(0L, cache.getHitCount());
+        assertEquals(0L, cache.getReuseCount());
+    }
+
+    @Test
+    public void keepsOptionsApart() {
+        cache.get(context("fruit", "ap", 0L), fruits);
+        cache.get(context("vegetable", "ap", 0L), fruits);
+        assertEquals(2, fruits.calls);
+    }
+
+    @Test
+    public void invalidatesAll() {
+        cache.get(context("ap"), fruits);
+        assertEquals(1L, cache.getSize());
+        cache.invalidateAll();
+        assertEquals(0L, cache.getSize());
+        cache.get(context("ap"), fruits);
+        assertEquals(2, fruits.calls);
+    }
+
+    private static SlashAutocompleteContext context(String input) {
+        return context("fruit", input, 0L);
+    }
+
+    private static SlashAutocompleteContext context(String input, long serverId) {
+        return context("fruit", input, serverId);
+    }
+
+    private static SlashAutocompleteContext context(String optionName, String input, long serverId) {
+        Optional<Server> server = serverId == 0L
+                ? Optional.empty()
+                : Optional.of(FakeDiscord.stub(Server.class, Collections.<String, Object>singletonMap("getId", serverId)));
+        AutocompleteInteraction interaction = FakeDiscord.stub(AutocompleteInteraction.class, Collections.<String, Object>singletonMap("getServer", server));
+        // The cache doesn't use the manager
+        return new SlashAutocompleteContext(null, interaction, "food", optionName, input);
+    }
+
+    private static List<SlashCommandOptionChoice> choices(String... names) {
+        List<SlashCommandOptionChoice> choices = new ArrayList<>();
+        for (String name : names) {
+            choices.add(FakeDiscord.stub(SlashCommandOptionChoice.class, Collections.<String, Object>singletonMap("getName", name)));
+        }
+        return choices;
+    }
+
+    private static List<String> names(List<SlashCommandOptionChoice> choices) {
+        List<String> names = new ArrayList<>();
+        for (SlashCommandOptionChoice choice : choices) {
+            names.add(choice.getName());
+        }
+        return names;
+    }
+
+    private static final class CountingHandler implements SlashAutocompleteHandler {
+
+        private final SortedCompletionProvider provider;
+        private int calls;
+
+        private CountingHandler(String... names) {
+            this.provider = new SortedCompletionProvider(choices(names));
+        }
+
+        @Override
+        public List<SlashCommandOptionChoice> complete(SlashAutocompleteContext context) {
+            calls++;
+            return provider.complete(context);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands;
+
+import org.javacord.api.interaction.SlashCommandOptionChoice;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SortedCompletionProviderTest {
+
+    private final SortedCompletionProvider provider = provider("banana", "Apple", "apricot", "avocado", "blueberry", "cherry");
+
+    @Test
+    public void completesPrefixInOrder() {
+        assertEquals(Arrays.asList("Apple", "apricot", "avocado"), names(provider.complete("a", 25)));
+        assertEquals(Arrays.asList("apricot"), names(provider.complete("apr", 25)));
+    }
+
+    @Test
+    public void ignoresCase() {
+        assertEquals(Arrays.asList("Apple"), names(provider.complete("APP", 25)));
+        assertEquals(Arrays.asList("blueberry"), names(provider.complete("Bl", 25)));
+    }
+
+    @Test
+    public void completesEverythingForEmptyInput() {
+        assertEquals(Arrays.asList("Apple", "apricot", "avocado", "banana", "blueberry", "cherry"),
+                names(provider.complete("", 25)));
+    }
+
+    @Test
+    public void returnsNothingWithoutMatch() {
+        assertTrue(provider.complete("d", 25).isEmpty());
+        assertTrue(provider.complete("cherrypie", 25).isEmpty());
+        assertTrue(provider.complete("zzz", 25).isEmpty());
+        assertTrue(provider(new String[0]).complete("a", 25).isEmpty());
+    }
+
+    @Test
+    public void stopsAtLimit() {
+        assertEquals(Arrays.asList("Apple", "apricot"), names(provider.complete("a", 2)));
+    }
+
+    @Test
+    public void completesLargeSet() {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            names.add(String.format("item%05d", i));
+        }
+        Collections.shuffle(names);
+        SortedCompletionProvider provider = provider(names.toArray(new String[0]));
+
+        assertEquals(10000, provider.size());
+        List<String> completed = names(provider.complete("item0420", SortedCompletionProvider.MAX_CHOICES));
+        assertEquals(10, completed.size());
+        assertEquals("item04200", completed.get(0));
+        assertEquals("item04209", completed.get(9));
+        assertEquals(SortedCompletionProvider.MAX_CHOICES, provider.complete("item", SortedCompletionProvider.MAX_CHOICES).size());
+    }
+
+    private static SortedCompletionProvider provider(String... names) {
+        List<SlashCommandOptionChoice> choices = new ArrayList<>();
+        for (String name : names) {
+            choices.add(FakeDiscord.stub(SlashCommandOptionChoice.class, Collections.<String, Object>singletonMap("getName", name)));
+        }
+        return new SortedCompletionProvider(choices);
+    }
+
+    private static List<String> names(List<SlashCommandOptionChoice> choices) {
+        List<String> names = new ArrayList<>();
+        for (SlashCommandOptionChoice choice : choices) {
+            names.add(choice.getName());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands.javacord.util;
+
+import org.junit.Test;
+
+import static co.aikar.commands.javacord.util.MentionParser.NONE;
+import static org.junit.Assert.assertEquals;
+
+public class MentionParserTest {
+
+    private static final long ID = 123456789012345678L;
+
+    @Test
+    public void parsesUserMentions() {
+        assertEquals(ID, MentionParser.parseUserMention("<@" + ID + ">"));
+        assertEquals(ID, MentionParser.parseUserMention("<@!" + ID + ">"));
+        assertEquals(7L, MentionParser.parseUserMention("<@7>"));
+    }
+
+    @Test
+    public void rejectsMalformedUserMentions() {
+        assertEquals(NONE, MentionParser.parseUserMention("<@>"));
+        assertEquals(NONE, MentionParser.parseUserMention("<@!>"));
+        assertEquals(NONE, MentionParser.parseUserMention("<@!!" + ID + ">"));
+        assertEquals(NONE, MentionParser.parseUserMention("<@" + ID));
+        assertEquals(NONE, MentionParser.parseUserMention("@" + ID + ">"));
+        assertEquals(NONE, MentionParser.parseUserMention("<@" + ID + "x>"));
+        assertEquals(NONE, MentionParser.parseUserMention(" <@" + ID + ">"));
+        assertEquals(NONE, MentionParser.parseUserMention(String.valueOf(ID)));
+        assertEquals(NONE, MentionParser.parseUserMention(""));
+    }
+
+    @Test
+    public void rejectsOtherMentionsAsUserMentions() {
+        assertEquals(NONE, MentionParser.parseUserMention("<@&" + ID + ">"));
+        assertEquals(NONE, MentionParser.parseUserMention("<#" + ID + ">"));
+        assertEquals(NONE, MentionParser.parseUserMention("<:name:" + ID + ">"));
+    }
+
+    @Test
+    public void parsesChannelMentions() {
+        assertEquals(ID, MentionParser.parseChannelMention("<#" + ID + ">"));
+        assertEquals(NONE, MentionParser.parseChannelMention("<#>"));
+        assertEquals(NONE, MentionParser.parseChannelMention("<@" + ID + ">"));
+        assertEquals(NONE, MentionParser.parseChannelMention("<#!" + ID + ">"));
+    }
+
+    @Test
+    public void parsesRoleMentions() {
+        assertEquals(ID, MentionParser.parseRoleMention("<@&" + ID + ">"));
+        assertEquals(NONE, MentionParser.parseRoleMention("<@&>"));
+        assertEquals(NONE, MentionParser.parseRoleMention("<@" + ID + ">"));
+        assertEquals(NONE, MentionParser.parseRoleMention("<@!" + ID + ">"));
+    }
+
+    @Test
+    public void parsesCustomEmojis() {
+        assertEquals(ID, MentionParser.parseCustomEmoji("<:pepe:" + ID + ">"));
+        assertEquals(ID, MentionParser.parseCustomEmoji("<:pepe_2:" + ID + ">"));
+        assertEquals(ID, MentionParser.parseCustomEmoji("<:404:" + ID + ">"));
+        assertEquals(ID, MentionParser.parseCustomEmoji("<:a1b2c3:" + ID + ">"));
+    }
+
+    @Test
+    public void parsesAnimatedCustomEmojis() {
+        assertEquals(ID, MentionParser.parseCustomEmoji("<a:party:" + ID + ">"));
+        // Names starting with an "a" mustn't be mistaken for the animated marker
+        assertEquals(ID, MentionParser.parseCustomEmoji("<a:angry:" + ID + ">"));
+        assertEquals(ID, MentionParser.parseCustomEmoji("<:angry:" + ID + ">"));
+        assertEquals(ID, MentionParser.parseCustomEmoji("<a:a:" + ID + ">"));
+        assertEquals(ID, MentionParser.parseCustomEmoji("<:a:" + ID + ">"));
+    }
+
+    @Test
+    public void rejectsMalformedCustomEmojis() {
+        assertEquals(NONE, MentionParser.parseCustomEmoji("<::" + ID + ">"));
+        assertEquals(NONE, MentionParser.parseCustomEmoji("<a::" + ID + ">"));
+        assertEquals(NONE, MentionParser.parseCustomEmoji("<angry:" + ID + ">"));
+        assertEquals(NONE, MentionParser.parseCustomEmoji("<b:angry:" + ID + ">"));
+        assertEquals(NONE, MentionParser.parseCustomEmoji("<:angry:>"));
+        assertEquals(NONE, MentionParser.parseCustomEmoji("<:angry>"));
+        assertEquals(NONE, MentionParser.parseCustomEmoji("<:an-gry:" + ID + ">"));
+        assertEquals(NONE, MentionParser.parseCustomEmoji("<:angry:" + ID + ":>"));
+        assertEquals(NONE, MentionParser.parseCustomEmoji(":angry:"));
+    }
+
+    @Test
+    public void parsesSnowflakeRanges() {
+        assertEquals(ID, MentionParser.parseSnowflake("id=" + ID + ";", 3, 21));
+        assertEquals(0L, MentionParser.parseSnowflake("0", 0, 1));
+        assertEquals(NONE, MentionParser.parseSnowflake("123", 1, 1));
+        assertEquals(NONE, MentionParser.parseSnowflake("123", 2, 1));
+        assertEquals(NONE, MentionParser.parseSnowflake("-123", 0, 4));
+    }
+
+    @Test
+    public void rejectsSnowflakesThatOverflow() {
+        assertEquals(Long.MAX_VALUE, MentionParser.parseUserMention("<@" + Long.MAX_VALUE + ">"));
+        // 19 digits, but larger than Long.MAX_VALUE
+        assertEquals(NONE, MentionParser.parseUserMention("<@9223372036854775808>"));
+        assertEquals(NONE, MentionParser.parseUserMention("<@9999999999999999999>"));
+        // More digits than any long has, even with leading zeros
+        assertEquals(NONE, MentionParser.parseUserMention("<@00000000000000000001>"));
+        assertEquals(NONE, MentionParser.parseChannelMention("<#12345678901234567890>"));
+        assertEquals(NONE, MentionParser.parseRoleMention("<@&12345678901234567890>"));
+        assertEquals(NONE, MentionParser.parseCustomEmoji("<:pepe:12345678901234567890>"));
+    }
+}
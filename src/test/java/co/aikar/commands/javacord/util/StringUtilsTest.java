@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2023 Kevin Zuman (Greenadine)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package co.aikar.commands.javacord.util;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class StringUtilsTest {
+
+    private static final String[] SAMPLES = {
+            "", "ping", "ping ", " ping", "ping pong", "ping  pong", "ping\tpong\nend", "  ping pong  ", "a b c d e",
+    };
+
+    @Test
+    public void detectsWhitespace() {
+        assertTrue(StringUtils.containsWhitespace("ping pong"));
+        assertTrue(StringUtils.containsWhitespace("ping\tpong"));
+        assertFalse(StringUtils.containsWhitespace("ping"));
+        assertFalse(StringUtils.containsWhitespace(""));
+    }
+
+    @Test
+    public void comparesFirstWord() {
+        assertTrue(StringUtils.firstWordEquals("ping", "ping"));
+        assertTrue(StringUtils.firstWordEquals("ping pong", "ping"));
+        assertTrue(StringUtils.firstWordEquals("ping\tpong", "ping"));
+        assertFalse(StringUtils.firstWordEquals("pings pong", "ping"));
+        assertFalse(StringUtils.firstWordEquals("pin pong", "ping"));
+        assertFalse(StringUtils.firstWordEquals("pong ping", "ping"));
+        assertFalse(StringUtils.firstWordEquals(" ping", "ping"));
+        assertTrue(StringUtils.firstWordEquals("", ""));
+    }
+
+    @Test
+    public void removesFirstWord() {
+        assertEquals("", StringUtils.removeFirstWord("ping"));
+        assertEquals("pong", StringUtils.removeFirstWord("ping pong"));
+        assertEquals("pong end", StringUtils.removeFirstWord("ping  pong\tend "));
+        assertEquals("", StringUtils.removeFirstWord("ping "));
+    }
+
+    @Test
+    public void removeFirstWordMatchesSplitAndJoin() {
+        for (String sample : SAMPLES) {
+            String[] words = StringUtils.splitOnWhitespace(sample);
+            String expected = words.length > 1 ? String.join(" ", Arrays.copyOfRange(words, 1, words.length)) : "";
+            assertEquals("'" + sample + "'", expected, StringUtils.removeFirstWord(sample));
+        }
+    }
+
+    @Test
+    public void countsWordsAfterFirst() {
+        assertEquals(0, StringUtils.countWordsAfterFirst("ping"));
+        assertEquals(0, StringUtils.countWordsAfterFirst("ping "));
+        assertEquals(1, StringUtils.countWordsAfterFirst("ping pong"));
+        assertEquals(2, StringUtils.countWordsAfterFirst("ping  pong\tend "));
+    }
+
+    @Test
+    public void countWordsAfterFirstMatchesSplit() {
+        for (String sample : SAMPLES) {
+            int expected = Math.max(0, StringUtils.splitOnWhitespace(sample).length - 1);
+            assertEquals("'" + sample + "'", expected, StringUtils.countWordsAfterFirst(sample));
+        }
+    }
+}